@@ -0,0 +1,96 @@
+package com.gamesbykevin.mario.benchmark;
+
+import com.gamesbykevin.mario.enemies.Enemies;
+import com.gamesbykevin.mario.engine.Engine;
+import com.gamesbykevin.mario.world.level.Level;
+import com.gamesbykevin.mario.world.level.tiles.Tile;
+
+import java.awt.Rectangle;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for updating a crowd of enemies near the camera, on the game thread or on multiple threads
+ * @author GOD
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnemiesBenchmark
+{
+    //the number of enemies near the camera
+    @Param({"100", "1000", "5000"})
+    public int count;
+    
+    //are the enemies updated on multiple threads
+    @Param({"false", "true"})
+    public boolean parallel;
+    
+    //our game engine
+    private Engine engine;
+    
+    //the enemies to update
+    private Enemies enemies;
+    
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setupEngine() throws Exception
+    {
+        engine = Fixture.createEngine(Fixture.SEED);
+        
+        //use the threads for every count, or never
+        engine.setEnemyParallelThreshold(parallel ? 0 : Integer.MAX_VALUE);
+    }
+    
+    @Setup(org.openjdk.jmh.annotations.Level.Iteration)
+    public void setupEnemies()
+    {
+        //every iteration starts at the beginning of the level
+        Fixture.enterLevel(engine);
+        
+        final Level level = engine.getManager().getWorld().getLevels().getLevel();
+        final Rectangle boundary = level.getBoundary();
+        final Random random = new Random(Fixture.SEED);
+        
+        //the enemies will stand on the floor
+        final double y = level.getTiles().getFloorRow() * Tile.HEIGHT;
+        
+        enemies = level.getEnemies();
+        enemies.reset();
+        
+        //spread the enemies across the area that is updated
+        for (int i = 0; i < count; i++)
+        {
+            enemies.add(boundary.x + random.nextInt(boundary.width * 2), y, Enemies.Type.Goomba, random);
+        }
+    }
+    
+    @TearDown(org.openjdk.jmh.annotations.Level.Trial)
+    public void tearDownEngine()
+    {
+        engine.dispose();
+        engine = null;
+        enemies = null;
+    }
+    
+    @Benchmark
+    public void enemiesUpdate()
+    {
+        enemies.update(engine);
+    }
+}
\ No newline at end of file
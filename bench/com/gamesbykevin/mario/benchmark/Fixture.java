@@ -0,0 +1,154 @@
+package com.gamesbykevin.mario.benchmark;
+
+import com.gamesbykevin.mario.engine.Engine;
+import com.gamesbykevin.mario.main.Main;
+import com.gamesbykevin.mario.resources.GameImages;
+import com.gamesbykevin.mario.shared.Shared;
+import com.gamesbykevin.mario.world.World;
+import com.gamesbykevin.mario.world.level.Level;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+/**
+ * Creates the game objects used by the benchmarks so every run starts from the same state
+ * @author GOD
+ */
+final class Fixture
+{
+    //the seed used for every benchmark so the results can be compared
+    static final long SEED = 20150101L;
+    
+    //the most updates we will wait for the world to be created
+    private static final int SETUP_LIMIT = 10000;
+    
+    //the resources are located relative to the classes in the root directory of the project
+    private static final String SOURCE = "StartDesktop";
+    
+    private Fixture()
+    {
+        //do nothing
+    }
+    
+    /**
+     * Get the area of the screen where the game is displayed
+     * @return The original screen dimensions
+     */
+    static Rectangle getScreen()
+    {
+        return new Rectangle(0, 0, Shared.ORIGINAL_WIDTH, Shared.ORIGINAL_HEIGHT);
+    }
+    
+    /**
+     * Create a blank image to be used in place of a sprite sheet
+     * @return Image the size of the screen
+     */
+    static BufferedImage createImage()
+    {
+        return new BufferedImage(Shared.ORIGINAL_WIDTH, Shared.ORIGINAL_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+    }
+    
+    /**
+     * Create a level with blank images, only the tiles are created
+     * @param screens The number of screens wide the level is
+     * @param seed Seed used to generate the level
+     * @return The new level
+     */
+    static Level createTiles(final int screens, final long seed)
+    {
+        final Level level = new Level(getScreen());
+        
+        //create the tiles and power ups
+        level.createTiles(Level.LEVEL_COLUMNS_PER_SCREEN * screens, createImage(), createImage(), new Random(seed));
+        
+        return level;
+    }
+    
+    /**
+     * Create a headless engine and update until the world has been created
+     * @param seed Seed for the Random object
+     * @return The engine, the world map is displayed at this point
+     * @throws Exception
+     */
+    static Engine createEngine(final long seed) throws Exception
+    {
+        //create main without a display
+        final Main main = new Main(Shared.DEFAULT_UPS, Class.forName(SOURCE));
+        
+        //create the engine with the specified seed
+        final Engine engine = new Engine(main, seed);
+        
+        //the first update will load the resources and create the game
+        engine.update(main);
+        
+        for (int i = 0; i < SETUP_LIMIT; i++)
+        {
+            //stop once the world is created
+            if (engine.getManager().getWorld().isComplete())
+                return engine;
+            
+            engine.update(main);
+        }
+        
+        throw new Exception("World was not created after " + SETUP_LIMIT + " updates");
+    }
+    
+    /**
+     * Create a complete level with the engine resources
+     * @param engine Our game engine
+     * @param screens The number of screens wide the level is
+     * @param seed Seed used to generate the level
+     * @return The new level
+     */
+    static Level createLevel(final Engine engine, final int screens, final long seed)
+    {
+        final Random random = new Random(seed);
+        
+        final Level level = new Level(engine.getMain().getScreen());
+        
+        //create tiles of specified size
+        level.createTiles(
+            Level.LEVEL_COLUMNS_PER_SCREEN * screens,
+            engine.getResources().getGameImage(GameImages.Keys.LevelTiles),
+            engine.getResources().getGameImage(GameImages.Keys.PowerUps),
+            random);
+        
+        //create the background, effects, and enemies
+        level.createBackground(engine.getResources().getGameImage(GameImages.Keys.LevelBackgrounds), random);
+        level.createEffects(engine.getResources().getGameImage(GameImages.Keys.Effects));
+        level.placeEnemies(engine.getResources().getGameImage(GameImages.Keys.Enemies), random);
+        
+        return level;
+    }
+    
+    /**
+     * Make the level the current level of the world, so everything that looks up the current level uses it
+     * @param engine Our game engine
+     * @param level The level to install
+     * @return The level that was replaced, install it again when finished
+     */
+    static Level installLevel(final Engine engine, final Level level)
+    {
+        return engine.getManager().getWorld().getLevels().setLevel(level);
+    }
+    
+    /**
+     * Leave the world map and place the hero at the start of the current level.<br>
+     * The hero starts on the map away from the levels, so the current level is not chosen by the map.
+     * @param engine Our game engine
+     */
+    static void enterLevel(final Engine engine)
+    {
+        final World world = engine.getManager().getWorld();
+        
+        //we no longer are displaying the map
+        world.getMap().setDisplayed(false);
+        
+        //reset the current level so all tiles are positioned back at start
+        world.getLevels().getLevel().reset();
+        
+        //position the hero appropriately
+        world.setStart(engine.getManager().getMario());
+    }
+}
\ No newline at end of file
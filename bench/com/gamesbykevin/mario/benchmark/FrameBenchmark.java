@@ -0,0 +1,79 @@
+package com.gamesbykevin.mario.benchmark;
+
+import com.gamesbykevin.mario.engine.Engine;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for a full frame, one engine update followed by drawing the game
+ * @author GOD
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameBenchmark
+{
+    //our game engine
+    private Engine engine;
+    
+    //image where the game is drawn
+    private BufferedImage image;
+    
+    //graphics object used to draw the image
+    private Graphics graphics;
+    
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setupEngine() throws Exception
+    {
+        engine = Fixture.createEngine(Fixture.SEED);
+        image = Fixture.createImage();
+        graphics = image.getGraphics();
+    }
+    
+    @Setup(org.openjdk.jmh.annotations.Level.Iteration)
+    public void setupLevel()
+    {
+        //every iteration starts at the beginning of the level
+        Fixture.enterLevel(engine);
+    }
+    
+    @TearDown(org.openjdk.jmh.annotations.Level.Trial)
+    public void tearDownEngine()
+    {
+        graphics.dispose();
+        graphics = null;
+        image.flush();
+        image = null;
+        engine.dispose();
+        engine = null;
+    }
+    
+    @Benchmark
+    public BufferedImage frame() throws Exception
+    {
+        //update game
+        engine.update(engine.getMain());
+        
+        //draw game
+        engine.render(graphics);
+        
+        return image;
+    }
+}
\ No newline at end of file
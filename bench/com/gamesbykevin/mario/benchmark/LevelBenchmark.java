@@ -0,0 +1,91 @@
+package com.gamesbykevin.mario.benchmark;
+
+import com.gamesbykevin.mario.engine.Engine;
+import com.gamesbykevin.mario.world.level.Level;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for updating a level and the enemies in it
+ * @author GOD
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelBenchmark
+{
+    //how many screens wide is the level
+    @Param({"13", "16", "20"})
+    public int screens;
+    
+    //our game engine
+    private Engine engine;
+    
+    //the level to update
+    private Level level;
+    
+    //the current level of the world before ours was installed
+    private Level previous;
+    
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setupEngine() throws Exception
+    {
+        engine = Fixture.createEngine(Fixture.SEED);
+    }
+    
+    @Setup(org.openjdk.jmh.annotations.Level.Iteration)
+    public void setupLevel()
+    {
+        //every iteration starts with the same level
+        level = Fixture.createLevel(engine, screens, Fixture.SEED);
+        
+        //the enemies and hero look up the current level, so it has to be ours
+        previous = Fixture.installLevel(engine, level);
+    }
+    
+    @TearDown(org.openjdk.jmh.annotations.Level.Iteration)
+    public void tearDownLevel()
+    {
+        //put back the level that was replaced
+        Fixture.installLevel(engine, previous);
+        previous = null;
+        
+        level.dispose();
+        level = null;
+    }
+    
+    @TearDown(org.openjdk.jmh.annotations.Level.Trial)
+    public void tearDownEngine()
+    {
+        engine.dispose();
+        engine = null;
+    }
+    
+    @Benchmark
+    public void levelUpdate()
+    {
+        level.update(engine);
+    }
+    
+    @Benchmark
+    public void enemiesUpdate()
+    {
+        level.getEnemies().update(engine);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.gamesbykevin.mario.benchmark;
+
+import com.gamesbykevin.mario.engine.Engine;
+import com.gamesbykevin.mario.world.map.Map;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for generating the world map
+ * @author GOD
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapBenchmark
+{
+    //how many levels are placed on the map
+    @Param({"5", "10"})
+    public int count;
+    
+    //our game engine
+    private Engine engine;
+    
+    //the world map
+    private Map map;
+    
+    @Setup
+    public void setup() throws Exception
+    {
+        engine = Fixture.createEngine(Fixture.SEED);
+        map = engine.getManager().getWorld().getMap();
+    }
+    
+    @TearDown
+    public void tearDown()
+    {
+        engine.dispose();
+        engine = null;
+        map = null;
+    }
+    
+    @Benchmark
+    public Map reset()
+    {
+        //every map is generated with the same seed
+        map.reset(new Random(Fixture.SEED), count);
+        
+        return map;
+    }
+}
\ No newline at end of file
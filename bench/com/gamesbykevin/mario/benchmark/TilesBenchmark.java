@@ -0,0 +1,114 @@
+package com.gamesbykevin.mario.benchmark;
+
+import com.gamesbykevin.mario.world.level.Level;
+import com.gamesbykevin.mario.world.level.tiles.Tile;
+import com.gamesbykevin.mario.world.level.tiles.Tiles;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the tile lookups and level generation
+ * @author GOD
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TilesBenchmark
+{
+    //how many screens wide is the level
+    @Param({"13", "16", "20"})
+    public int screens;
+    
+    //the level used for the lookups
+    private Level level;
+    
+    //the tiles in the level
+    private Tiles tiles;
+    
+    //the distance between each lookup (pixels)
+    private static final int STEP = 7;
+    
+    @Setup
+    public void setup()
+    {
+        level = Fixture.createTiles(screens, Fixture.SEED);
+        tiles = level.getTiles();
+    }
+    
+    @TearDown
+    public void tearDown()
+    {
+        level.dispose();
+        level = null;
+        tiles = null;
+    }
+    
+    /**
+     * Locate the cell at every location across the level
+     * @return The sum of the cells found
+     */
+    @Benchmark
+    public long getCell()
+    {
+        final int width = tiles.getColumns() * Tile.WIDTH;
+        final int height = tiles.getRows() * Tile.HEIGHT;
+        
+        long sum = 0;
+        
+        for (int y = 0; y < height; y += STEP)
+        {
+            for (int x = 0; x < width; x += STEP)
+            {
+                sum += tiles.getCell(x, y);
+            }
+        }
+        
+        return sum;
+    }
+    
+    /**
+     * Check for the floor at every location across the level
+     * @return The number of locations with floor
+     */
+    @Benchmark
+    public int hasFloorBelow()
+    {
+        final int width = tiles.getColumns() * Tile.WIDTH;
+        
+        int count = 0;
+        
+        for (int x = 0; x < width; x += STEP)
+        {
+            if (tiles.hasFloorBelow(x))
+                count++;
+        }
+        
+        return count;
+    }
+    
+    /**
+     * Generate a new level
+     * @return The level created
+     */
+    @Benchmark
+    public Level populate()
+    {
+        return Fixture.createTiles(screens, Fixture.SEED);
+    }
+}
\ No newline at end of file
@@ -1,6 +1,8 @@
 import com.gamesbykevin.mario.main.Main;
 import com.gamesbykevin.mario.shared.Shared;
 
+import java.awt.BorderLayout;
+import java.awt.Canvas;
 import java.awt.Dimension;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
@@ -14,17 +16,25 @@ public final class StartDesktop extends JPanel
     //our object that will run everything in the application
     private Main main;
     
+    //the game is drawn here
+    private final Canvas canvas;
+    
     public StartDesktop()
     {
         setCursor(Shared.CURSOR);
         setPreferredSize(new Dimension(Shared.INITIAL_WIDTH, Shared.INITIAL_HEIGHT));
-        setFocusable(true);
-        requestFocus();
+        setLayout(new BorderLayout());
+        
+        //the canvas fills the panel and receives the input
+        canvas = new Canvas();
+        canvas.setCursor(Shared.CURSOR);
+        canvas.setFocusable(true);
+        add(canvas, BorderLayout.CENTER);
         
         try
         {
             //create a new instance of main with the specified ups/fps
-            main = new Main(Shared.DEFAULT_UPS, this);
+            main = new Main(Shared.DEFAULT_UPS, this, canvas);
             
             //new instance of our main engine
             main.create();
@@ -38,6 +48,14 @@ public final class StartDesktop extends JPanel
         }
     }
     
+    /**
+     * Give the canvas the keyboard focus
+     */
+    private void requestCanvasFocus()
+    {
+        canvas.requestFocus();
+    }
+    
     public static void main(String[] args)
     {
         try
@@ -49,7 +67,8 @@ public final class StartDesktop extends JPanel
             window.setCursor(Shared.CURSOR);
             
             //add component to window
-            window.add(new StartDesktop());
+            final StartDesktop panel = new StartDesktop();
+            window.add(panel);
             
             //do not allow user to resize window
             window.setResizable(false);
@@ -63,6 +82,9 @@ public final class StartDesktop extends JPanel
             //set visible to true so we can see panel
             window.setVisible(true);
             
+            //the canvas needs focus to detect key input
+            panel.requestCanvasFocus();
+            
             //dispose on close to free up resources
             window.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         }
@@ -0,0 +1,186 @@
+import com.gamesbykevin.mario.engine.Engine;
+import com.gamesbykevin.mario.input.Input;
+import com.gamesbykevin.mario.main.Main;
+import com.gamesbykevin.mario.shared.Shared;
+import com.gamesbykevin.mario.world.World;
+
+import com.gamesbykevin.framework.input.Keyboard;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * This file will run the game logic without a display.<br>
+ * Nothing is rendered and the engine is updated as fast as possible using scripted keyboard input.<br>
+ * The trace is a checksum of the enemies after every update, two runs with the same seed should have the same trace.<br>
+ * If the maximum bytes per update is specified, the exit status is 1 when more memory was allocated per update, or the allocations could not be counted.<br>
+ * The enemies are updated on multiple threads once there are more than the parallel threshold, a negative maximum bytes per update is not checked.<br>
+ * Only the allocations of the game thread can be counted, so when the maximum bytes per update is checked the enemies are always updated on the game thread.<br>
+ * If the game crashes the exit status is 1.<br>
+ * Usage: StartHeadless [updates] [seed] [maximum bytes per update] [parallel threshold]
+ * @author GOD
+ */
+public final class StartHeadless
+{
+    //the default number of updates to run
+    private static final int DEFAULT_UPDATES = 100000;
+    
+    //how often the hero will jump (updates)
+    private static final int JUMP_INTERVAL = 45;
+    
+    //how long the jump key is held (updates)
+    private static final int JUMP_DURATION = 20;
+    
+    //how many nanoseconds are there in one second
+    private static final double NANO_SECONDS_PER_SECOND = 1000000000.0;
+    
+    private StartHeadless()
+    {
+        //do nothing
+    }
+    
+    /**
+     * Get the number of bytes allocated by the current thread, the threads that update the enemies are not included
+     * @return The total bytes allocated, if the jvm can't count allocations -1 is returned
+     */
+    private static long getAllocatedBytes()
+    {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        
+        //the allocated bytes are only available on some jvms
+        if (!(bean instanceof com.sun.management.ThreadMXBean))
+            return -1;
+        
+        return ((com.sun.management.ThreadMXBean)bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    
+    /**
+     * Get the checksum of the enemies in the current level
+     * @param engine Our game engine
+     * @return The checksum of the enemies, 0 if the world has not been created
+     */
+    private static long getChecksum(final Engine engine)
+    {
+        final World world = engine.getManager().getWorld();
+        
+        if (world == null || !world.isComplete() || world.getLevels().getLevel().getEnemies() == null)
+            return 0;
+        
+        return world.getLevels().getLevel().getEnemies().getChecksum();
+    }
+    
+    /**
+     * Apply the keyboard input for the specified update.<br>
+     * The hero will always move east and jump every so often, the jump key will also select a level on the map.
+     * @param keyboard Object recording key input
+     * @param update The current update
+     */
+    private static void script(final Keyboard keyboard, final int update)
+    {
+        //always move east
+        if (!keyboard.hasKeyPressed(Input.KEY_MOVE_RIGHT))
+            keyboard.addKeyPressed(Input.KEY_MOVE_RIGHT);
+        
+        if (update % JUMP_INTERVAL == 0)
+        {
+            //start the jump
+            keyboard.addKeyPressed(Input.KEY_JUMP);
+        }
+        else if (update % JUMP_INTERVAL == JUMP_DURATION)
+        {
+            //finish the jump
+            keyboard.addKeyReleased(Input.KEY_JUMP);
+        }
+    }
+    
+    public static void main(String[] args)
+    {
+        //we don't have a display
+        System.setProperty("java.awt.headless", "true");
+        
+        try
+        {
+            //the number of updates to run
+            final int updates = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_UPDATES;
+            
+            //create a new instance of main without a display, the updates per second determines the time of each update
+            final Main main = new Main(Shared.DEFAULT_UPS, StartHeadless.class);
+            
+            //create the engine with the specified seed so the game can be repeated
+            final Engine engine = (args.length > 1) ? new Engine(main, Long.parseLong(args[1])) : new Engine(main);
+            
+            //the most memory each update can allocate, -1 if not checked
+            final long limit = (args.length > 2) ? Long.parseLong(args[2]) : -1;
+            
+            //the number of enemies that need to be updated before they are updated on multiple threads
+            if (args.length > 3)
+                engine.setEnemyParallelThreshold(Integer.parseInt(args[3]));
+            
+            //the allocations of the other threads aren't counted, so keep every update on this thread
+            if (limit >= 0)
+                engine.setEnemyParallelThreshold(Integer.MAX_VALUE);
+            
+            //the first update will load the resources and create the game
+            engine.update(main);
+            
+            //the time and memory when the simulation starts
+            final long start = System.nanoTime();
+            final long allocated = getAllocatedBytes();
+            
+            //the checksum of the enemies after every update
+            long trace = 0;
+            
+            for (int update = 0; update < updates; update++)
+            {
+                //apply the scripted input
+                script(engine.getKeyboard(), update);
+                
+                //update game
+                engine.update(main);
+                
+                //record the state of the enemies
+                trace = (trace * 31) + getChecksum(engine);
+            }
+            
+            //how long did the simulation take
+            final double seconds = (System.nanoTime() - start) / NANO_SECONDS_PER_SECOND;
+            
+            //how much memory was allocated during the simulation
+            final long bytes = (allocated < 0) ? -1 : getAllocatedBytes() - allocated;
+            
+            //display the results
+            System.out.println("Seed = " + engine.getSeed());
+            System.out.println("Updates = " + updates);
+            System.out.println("Seconds = " + seconds);
+            System.out.println("UPS = " + (updates / seconds));
+            System.out.println("Bytes/Update = " + ((bytes < 0) ? "unavailable" : "" + (bytes / Math.max(updates, 1))));
+            System.out.println("Trace = " + Long.toHexString(trace));
+            
+            //display the time of each phase
+            System.out.print(main.getProfiler().toCsv());
+            
+            //free up resources
+            engine.dispose();
+            main.dispose();
+            
+            //check the allocations if a limit was specified
+            if (limit >= 0)
+            {
+                if (bytes < 0 || bytes / Math.max(updates, 1) > limit)
+                {
+                    System.out.println("Allocation check failed, limit = " + limit + " Bytes/Update");
+                    System.exit(1);
+                }
+                
+                System.out.println("Allocation check passed, limit = " + limit + " Bytes/Update");
+            }
+        }
+        catch(Exception e)
+        {
+            e.printStackTrace();
+            
+            //let the caller know the run failed
+            System.exit(1);
+        }
+    }
+}
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.gamesbykevin.framework.resources.Disposable;
 
 import com.gamesbykevin.mario.effects.Effects;
 import com.gamesbykevin.mario.engine.Engine;
+import com.gamesbykevin.mario.entity.Entities;
 import com.gamesbykevin.mario.entity.Entity;
 import com.gamesbykevin.mario.world.level.Level;
 import com.gamesbykevin.mario.projectiles.Projectile;
@@ -11,8 +12,6 @@ import com.gamesbykevin.mario.resources.GameAudio;
 
 import java.awt.Graphics;
 import java.awt.Rectangle;
-import java.util.ArrayList;
-import java.util.List;
 
 public abstract class Character extends Entity implements Disposable
 {
@@ -33,7 +32,13 @@ public abstract class Character extends Entity implements Disposable
     private int projectileLimit = 0;
     
     //the list of projectiles
-    private List<Projectile> projectiles;
+    private Entities<Projectile> projectiles;
+    
+    //the projectiles thrown while they are held, these are added to the list later
+    private Entities<Projectile> held;
+    
+    //are the projectiles thrown held instead of added to the list
+    private boolean hold = false;
     
     //can this character be killed by a projectile
     private boolean weaknessProjectile = false;
@@ -55,7 +60,8 @@ public abstract class Character extends Entity implements Disposable
         this.speedRun = speedRun;
         
         //create container for projectiles
-        this.projectiles = new ArrayList<>();
+        this.projectiles = new Entities<>();
+        this.held = new Entities<>();
     }
     
     @Override
@@ -65,15 +71,15 @@ public abstract class Character extends Entity implements Disposable
         
         if (projectiles != null)
         {
-            for (int i = 0; i < projectiles.size(); i++)
-            {
-                projectiles.get(i).dispose();
-                projectiles.set(i, null);
-            }
-            
-            projectiles.clear();
+            projectiles.dispose();
             projectiles = null;
         }
+        
+        if (held != null)
+        {
+            held.dispose();
+            held = null;
+        }
     }
     
     public double getSpeedWalk()
@@ -288,7 +294,7 @@ public abstract class Character extends Entity implements Disposable
     
     public boolean canThrowProjectile()
     {
-        return (projectileLimit > 0 && projectiles.size() < projectileLimit);
+        return (projectileLimit > 0 && projectiles.size() + held.size() < projectileLimit);
     }
     
     public final void addProjectile(final Projectile projectile)
@@ -296,21 +302,71 @@ public abstract class Character extends Entity implements Disposable
         //setup projectile
         projectile.setup(this);
         
-        //add to list
-        projectiles.add(projectile);
+        //add to list, unless the projectiles are held
+        if (hold)
+        {
+            held.add(projectile);
+        }
+        else
+        {
+            projectiles.add(projectile);
+        }
     }
     
-    public List<Projectile> getProjectiles()
+    /**
+     * Hold the projectiles thrown instead of adding them to the list.<br>
+     * This way the list isn't changed while other characters are updated at the same time.
+     */
+    protected void holdProjectiles()
+    {
+        this.hold = true;
+    }
+    
+    /**
+     * Add the projectiles held to the list in the order they were thrown, and stop holding them
+     */
+    protected void releaseProjectiles()
+    {
+        for (int i = 0; i < held.size(); i++)
+        {
+            projectiles.add(held.get(i));
+        }
+        
+        held.clear();
+        
+        this.hold = false;
+    }
+    
+    public Entities<Projectile> getProjectiles()
     {
         return this.projectiles;
     }
     
+    /**
+     * Remove all projectiles and return them to the pool
+     */
+    public void removeProjectiles()
+    {
+        for (int i = 0; i < projectiles.size(); i++)
+        {
+            projectiles.get(i).recycle();
+        }
+        
+        for (int i = 0; i < held.size(); i++)
+        {
+            held.get(i).recycle();
+        }
+        
+        projectiles.clear();
+        held.clear();
+    }
+    
     /**
      * Determine if this character has been hit by any projectiles
      * @param projectiles The enemy projectiles in play
      * @param effects Object used to add effects to level
      */
-    public void checkProjectileCollision(final List<Projectile> projectiles, final Effects effects)
+    public void checkProjectileCollision(final Entities<Projectile> projectiles, final Effects effects)
     {
         for (int i = 0; i < projectiles.size(); i++)
         {
@@ -319,13 +375,13 @@ public abstract class Character extends Entity implements Disposable
             //if collision was returned true, we will remove the projectile
             if (projectile.checkCharacterCollision(this, effects))
             {
-                //remove from list
-                projectiles.remove(i);
-                
-                //move index back by 1
-                i--;
+                //remove from list and return to the pool
+                projectiles.discard(i).recycle();
             }
         }
+        
+        //remove the projectiles that hit, the rest keep their order
+        projectiles.compact();
     }
     
     public void updateProjectiles(final Engine engine)
@@ -341,25 +397,25 @@ public abstract class Character extends Entity implements Disposable
         {
             Projectile projectile = projectiles.get(i);
         
-            //adjust for scrolling
-            projectile.setX(projectile.getX() + level.getScrollX());
-            
             //update misc
             projectile.update(engine);
             
+            //make sure the projectile did not move through a tile
+            projectile.checkCollisionSwept(level.getTiles());
+            
             //update specific logic for this projectile
             projectile.updateLogic(level);
             
             //if it is now dead and not moving, remove from list
             if (projectile.isDead() && !projectile.hasVelocity())
             {
-                //remove from list
-                projectiles.remove(i);
-                
-                //move index back by 1
-                i--;
+                //remove from list and return to the pool
+                projectiles.discard(i).recycle();
             }
         }
+        
+        //remove the dead projectiles, the rest keep their order
+        projectiles.compact();
     }
     
     /**
@@ -389,7 +445,7 @@ public abstract class Character extends Entity implements Disposable
             }
             
             //draw projectile
-            projectile.draw(graphics, getImage());
+            projectile.drawAnimation(graphics, getImage());
         }
     }
 }
\ No newline at end of file
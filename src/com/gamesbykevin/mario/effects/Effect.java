@@ -60,4 +60,13 @@ public final class Effect extends Entity
     {
         return this.type;
     }
+    
+    /**
+     * Reset the effect when it is taken from the pool
+     */
+    protected void reset()
+    {
+        //start the animation over
+        resetAnimation();
+    }
 }
\ No newline at end of file
@@ -2,14 +2,14 @@ package com.gamesbykevin.mario.effects;
 
 import com.gamesbykevin.framework.resources.Disposable;
 
+import com.gamesbykevin.mario.entity.Entities;
 import com.gamesbykevin.mario.entity.Entity;
+import com.gamesbykevin.mario.entity.Pool;
 import com.gamesbykevin.mario.resources.GameAudio;
 
 import java.awt.Graphics;
 import java.awt.Image;
-
-import java.util.ArrayList;
-import java.util.List;
+import java.util.EnumMap;
 
 public final class Effects implements Disposable
 {
@@ -22,7 +22,10 @@ public final class Effects implements Disposable
     private Image image;
     
     //list of powerups
-    private List<Effect> effects;
+    private Entities<Effect> effects;
+    
+    //the effects that have finished for each type, so they can be used again
+    private EnumMap<Type, Pool<Effect>> pools;
     
     public Effects(final Image image)
     {
@@ -30,7 +33,15 @@ public final class Effects implements Disposable
         this.image = image;
         
         //create new list
-        this.effects = new ArrayList<>();
+        this.effects = new Entities<>();
+        
+        //create a pool for each type
+        this.pools = new EnumMap<>(Type.class);
+        
+        for (Type type : Type.values())
+        {
+            this.pools.put(type, new Pool<Effect>());
+        }
     }
     
     @Override
@@ -38,14 +49,19 @@ public final class Effects implements Disposable
     {
         if (effects != null)
         {
-            for (int i = 0; i < effects.size(); i++)
+            effects.dispose();
+            effects = null;
+        }
+        
+        if (pools != null)
+        {
+            for (Pool<Effect> pool : pools.values())
             {
-                effects.get(i).dispose();
-                effects.set(i, null);
+                pool.dispose();
             }
             
-            effects.clear();
-            effects = null;
+            pools.clear();
+            pools = null;
         }
     }
     
@@ -56,8 +72,20 @@ public final class Effects implements Disposable
     
     public void add(final double x, final double y, final Type type)
     {
-        //create new effect
-        Effect effect = new Effect(type);
+        //use a finished effect of the same type if there is one
+        Effect effect = pools.get(type).obtain();
+        
+        if (effect == null)
+        {
+            //create new effect
+            effect = new Effect(type);
+        }
+        else
+        {
+            //start the effect over
+            effect.reset();
+        }
+        
         effect.setLocation(x, y);
         
         //add to list
@@ -66,32 +94,43 @@ public final class Effects implements Disposable
     
     public void removeAll()
     {
+        for (int i = 0; i < effects.size(); i++)
+        {
+            recycle(effects.get(i));
+        }
+        
         effects.clear();
     }
     
-    public void update(final long time, final double scrollX)
+    /**
+     * Return the effect to the pool of its type
+     * @param effect The effect no longer in play
+     */
+    private void recycle(final Effect effect)
+    {
+        pools.get(effect.getType()).release(effect);
+    }
+    
+    public void update(final long time)
     {
         for (int i = 0; i < effects.size(); i++)
         {
             Effect effect = effects.get(i);
             
-            if (effect.getSpriteSheet().hasFinished())
+            if (effect.hasAnimationFinished())
             {
-                //if the effect has finished, remove it
-                effects.remove(i);
+                //if the effect has finished, remove it and return to the pool
+                recycle(effects.discard(i));
             }
             else
             {
                 //update animation
                 effect.update(time);
-                
-                //set velocity
-                effect.setVelocityX(scrollX);
-                
-                //move if velocity set
-                effect.update();
             }
         }
+        
+        //remove the finished effects, the rest keep their order
+        effects.compact();
     }
     
     public void render(final Graphics graphics)
@@ -100,7 +139,7 @@ public final class Effects implements Disposable
         for (int i = 0; i < effects.size(); i++)
         {
             Effect effect = effects.get(i);
-            effect.draw(graphics, image);
+            effect.drawAnimation(graphics, image);
         }
     }
 }
\ No newline at end of file
@@ -143,7 +143,7 @@ public final class BoomerangBros extends Enemy
         else
         {
             //if animation is finished we can start 
-            if (getSpriteSheet().hasFinished())
+            if (hasAnimationFinished())
             {
                 if (canThrowProjectile())
                 {
@@ -156,7 +156,7 @@ public final class BoomerangBros extends Enemy
                     setX(middleX - (Boomerang.PROJECTILE_WIDTH / 2));
 
                     //add projectile
-                    addProjectile(new Boomerang((heroMiddleX > middleX) ? true : false));
+                    addProjectile(Boomerang.create((heroMiddleX > middleX) ? true : false));
 
                     //restore location
                     setY(y);
@@ -126,7 +126,7 @@ public final class BulletBill extends Enemy
                     correctFacingDirection((middleX < heroMiddleX) ? false : true);
                     
                     //add projectile
-                    addProjectile(new Bullet());
+                    addProjectile(Bullet.create());
                     
                     //set sound to play
                     super.setAudioKey(GameAudio.Keys.SfxLevelBulletBill);
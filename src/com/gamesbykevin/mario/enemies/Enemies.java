@@ -3,6 +3,8 @@ package com.gamesbykevin.mario.enemies;
 import com.gamesbykevin.framework.resources.Disposable;
 
 import com.gamesbykevin.mario.engine.Engine;
+import com.gamesbykevin.mario.entity.Entities;
+import com.gamesbykevin.mario.heroes.Hero;
 import com.gamesbykevin.mario.world.level.Level;
 import com.gamesbykevin.mario.world.level.LevelCreatorHelper;
 import com.gamesbykevin.mario.world.level.tiles.Tile;
@@ -15,10 +17,41 @@ import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public final class Enemies implements Disposable, IElement
 {
-    private List<Enemy> enemies;
+    private Entities<Enemy> enemies;
+    
+    //the enemies near the camera that are updated
+    private Entities<Enemy> active;
+    
+    //the enemies away from the camera sorted by x-coordinate, these are not updated
+    private List<Enemy> sleeping;
+    
+    //the enemies that will be updated this time
+    private Entities<Enemy> updating;
+    
+    //the enemies still alive after the collisions were applied on multiple threads, these will think
+    private Entities<Enemy> thinking;
+    
+    //the enemies sorted into columns so only nearby enemies are checked for collision
+    private EnemyGrid grid;
+    
+    //do the enemies need to be sorted into columns again
+    private boolean stale = true;
+    
+    //the state of the enemies copied into arrays for the checksum
+    private EnemyData data;
+    
+    /**
+     * The default number of enemies that need to be updated before they are updated on multiple threads
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 256;
+    
+    //the most enemies each thread will update at once
+    private static final int BATCH_SIZE = 64;
     
     //our sprite sheet
     private Image image;
@@ -58,7 +91,17 @@ public final class Enemies implements Disposable, IElement
     public Enemies(final Image image, final Rectangle boundary)
     {
         //create new list
-        this.enemies = new ArrayList<>();
+        this.enemies = new Entities<>();
+        this.active = new Entities<>();
+        this.sleeping = new ArrayList<>();
+        this.updating = new Entities<>();
+        this.thinking = new Entities<>();
+        
+        //create the columns for collision detection
+        this.grid = new EnemyGrid();
+        
+        //create the arrays for the state of the enemies
+        this.data = new EnemyData();
         
         //store sprite sheet
         this.image = image;
@@ -67,26 +110,83 @@ public final class Enemies implements Disposable, IElement
         this.boundary = boundary;
     }
     
-    public List<Enemy> getEnemies()
+    public Entities<Enemy> getEnemies()
     {
         return this.enemies;
     }
     
+    /**
+     * Calculate a checksum of the current state of every enemy.<br>
+     * This is used to confirm two runs with the same seed and input behave the same.
+     * @return The checksum of the location, size, velocity, type, and flags of every enemy
+     */
+    public long getChecksum()
+    {
+        data.capture(enemies);
+        
+        return data.getChecksum();
+    }
+    
+    /**
+     * Get the enemies sorted into columns.<br>
+     * The enemies are only sorted the first time this is called each update.
+     * On multiple threads this is after every enemy has moved, so the locations are from this update.
+     * On the game thread this is during the first enemy that needs it, so the enemies after it in the list have not moved yet and their locations are from the previous update.
+     * @return The enemies sorted into columns
+     */
+    protected EnemyGrid getGrid()
+    {
+        if (stale)
+        {
+            grid.rebuild(active);
+            
+            stale = false;
+        }
+        
+        return this.grid;
+    }
+    
     @Override
     public void dispose()
     {
         if (enemies != null)
         {
-            for (int i = 0; i < enemies.size(); i++)
-            {
-                enemies.get(i).dispose();
-                enemies.set(i, null);
-            }
-            
-            enemies.clear();
+            enemies.dispose();
             enemies = null;
         }
         
+        if (active != null)
+        {
+            active.clear();
+            active = null;
+        }
+        
+        if (updating != null)
+        {
+            updating.clear();
+            updating = null;
+        }
+        
+        if (thinking != null)
+        {
+            thinking.clear();
+            thinking = null;
+        }
+        
+        if (sleeping != null)
+        {
+            sleeping.clear();
+            sleeping = null;
+        }
+        
+        if (grid != null)
+        {
+            grid.reset();
+            grid = null;
+        }
+        
+        data = null;
+        
         if (image != null)
         {
             image.flush();
@@ -102,6 +202,10 @@ public final class Enemies implements Disposable, IElement
     public void reset()
     {
         enemies.clear();
+        active.clear();
+        sleeping.clear();
+        grid.reset();
+        stale = true;
     }
     
     /**
@@ -141,24 +245,21 @@ public final class Enemies implements Disposable, IElement
                     if (tiles.hasTile(col, row))
                     {
                         //get the type of the current tile
-                        Tile tile = tiles.getTile(col, row);
+                        Tiles.Type type = tiles.getType(col, row);
 
                         //if this is a pipe determine if we are to add a plant inside
-                        if (LevelCreatorHelper.isPipe(tile.getType()))
+                        if (LevelCreatorHelper.isPipe(type))
                         {
                             //west side
-                            final Tile tmp1 = tiles.getTile(col - 1, row);
-                            final Tile tmp2 = tiles.getTile(col - 1, row + 1);
+                            final Tiles.Type tmp1 = tiles.getType(col - 1, row);
+                            final Tiles.Type tmp2 = tiles.getType(col - 1, row + 1);
 
                             //east side
-                            final Tile tmp3 = tiles.getTile(col + 1, row);
-                            final Tile tmp4 = tiles.getTile(col + 1, row + 1);
+                            final Tiles.Type tmp3 = tiles.getType(col + 1, row);
+                            final Tiles.Type tmp4 = tiles.getType(col + 1, row + 1);
 
                             //if the west side is not part of the pipe but the east side is, then this is valid
-                            if ((tmp1 == null || tmp1.getType() != tile.getType()) && 
-                                (tmp2 == null || tmp2.getType() != tile.getType()) && 
-                                (tmp3 != null && tmp3.getType() == tile.getType()) && 
-                                (tmp4 != null && tmp4.getType() == tile.getType()))
+                            if (tmp1 != type && tmp2 != type && tmp3 == type && tmp4 == type)
                             {
                                 //now choose at random if we are to add a plant
                                 if (random.nextInt(ADD_ENEMY_PLANT_PROBABILITY) == 0)
@@ -176,10 +277,10 @@ public final class Enemies implements Disposable, IElement
                             for (int x = 0; x < ADD_ENEMY_PLATFORM_REQUIREMENT; x++)
                             {
                                 //get temp tile above
-                                tile = tiles.getTile(col + x, row - 1);
+                                type = tiles.getType(col + x, row - 1);
 
                                 //if the tile above where we want to place isn't a background tile
-                                if (tile != null && !LevelCreatorHelper.isBackgroundTile(tile))
+                                if (type != null && !LevelCreatorHelper.isBackgroundTile(type))
                                 {
                                     valid = false;
                                     break;
@@ -193,10 +294,10 @@ public final class Enemies implements Disposable, IElement
                                 }
                                 
                                 //get the current row
-                                tile = tiles.getTile(col + x, row);
+                                type = tiles.getType(col + x, row);
                                 
                                 //make sure current row has tiles
-                                if (tile == null || LevelCreatorHelper.isBackgroundTile(tile))
+                                if (type == null || LevelCreatorHelper.isBackgroundTile(type))
                                 {
                                     valid = false;
                                     break;
@@ -232,8 +333,8 @@ public final class Enemies implements Disposable, IElement
                             for (int y = row; y < tiles.getFloorRow(); y++)
                             {
                                 //if we have a tile and it isn't a background
-                                if (tiles.hasTile(col, y) && !LevelCreatorHelper.isBackgroundTile(tiles.getTile(col, y)) || 
-                                    tiles.hasTile(col + 1, y) && !LevelCreatorHelper.isBackgroundTile(tiles.getTile(col + 1, y)))
+                                if (tiles.hasTile(col, y) && !LevelCreatorHelper.isBackgroundTile(tiles.getType(col, y)) || 
+                                    tiles.hasTile(col + 1, y) && !LevelCreatorHelper.isBackgroundTile(tiles.getType(col + 1, y)))
                                 {
                                     //this isn't a valid location
                                     valid = false;
@@ -293,18 +394,6 @@ public final class Enemies implements Disposable, IElement
         }
     }
     
-    public void moveEnemies(final double x, final double y)
-    {
-        for (int i = 0; i < enemies.size(); i++)
-        {
-            //get current enemy
-            Enemy enemy = enemies.get(i);
-            
-            //move back
-            enemy.setLocation(enemy.getX() + x, enemy.getY() + y);
-        }
-    }
-    
     public void removeProjectiles()
     {
         for (int i = 0; i < enemies.size(); i++)
@@ -313,7 +402,7 @@ public final class Enemies implements Disposable, IElement
             Enemy enemy = enemies.get(i);
             
             //remove all from enemy
-            enemy.getProjectiles().clear();
+            enemy.removeProjectiles();
         }
     }
     
@@ -476,6 +565,9 @@ public final class Enemies implements Disposable, IElement
 
             //add to list
             enemies.add(enemy);
+            
+            //every enemy sleeps until the camera is near
+            sleep(enemy);
         }
         catch (Exception e)
         {
@@ -483,53 +575,308 @@ public final class Enemies implements Disposable, IElement
         }
     }
     
+    /**
+     * Get the index of the first sleeping enemy at or east of the x-coordinate
+     * @param x x-coordinate
+     * @return The index in the sleeping list
+     */
+    private int getSleepingIndex(final double x)
+    {
+        int low = 0;
+        int high = sleeping.size();
+        
+        while (low < high)
+        {
+            final int middle = (low + high) >>> 1;
+            
+            if (sleeping.get(middle).getX() < x)
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+        
+        return low;
+    }
+    
+    /**
+     * Stop updating the enemy, the sleeping enemies stay sorted by x-coordinate
+     * @param enemy The enemy that will sleep
+     */
+    private void sleep(final Enemy enemy)
+    {
+        sleeping.add(getSleepingIndex(enemy.getX()), enemy);
+    }
+    
+    /**
+     * Wake the sleeping enemies inside the area so they will be updated
+     * @param west The west side of the area
+     * @param east The east side of the area
+     */
+    private void wake(final double west, final double east)
+    {
+        //the enemies are sorted by their west side, so start 1 screen further so wide enemies aren't missed
+        final int start = getSleepingIndex(west - boundary.width);
+        
+        //the sleeping enemies are moved down to fill the gap of the enemies woken
+        int index = start;
+        int i = start;
+        
+        for (; i < sleeping.size(); i++)
+        {
+            final Enemy enemy = sleeping.get(i);
+            
+            //the remaining enemies are all east of the area
+            if (enemy.getX() > east)
+                break;
+            
+            if (enemy.getX() + enemy.getWidth() >= west)
+            {
+                //the enemy is inside the area
+                active.add(enemy);
+            }
+            else
+            {
+                //the enemy stays asleep
+                sleeping.set(index++, enemy);
+            }
+        }
+        
+        //remove the gap left by the enemies woken
+        sleeping.subList(index, i).clear();
+    }
+    
     @Override
     public void update(final Engine engine)
     {
-        for (int i = 0; i < enemies.size(); i++)
+        //the enemies will move so they need to be sorted again
+        stale = true;
+        
+        //enemies within 1 screen west and 2 screens east of the camera are updated
+        final double west = boundary.x - (boundary.width * 1);
+        final double east = boundary.x + (boundary.width * 2);
+        
+        //wake the enemies the camera is approaching
+        wake(west, east);
+        
+        //determine which enemies will be updated
+        updating.clear();
+        
+        //the number of enemies that left play
+        int left = 0;
+        
+        for (int i = 0; i < active.size(); i++)
         {
             //get the current enemy
-            Enemy enemy = enemies.get(i);
+            Enemy enemy = active.get(i);
+            
+            //has the enemy been removed
+            boolean removed = false;
             
             //if enemy has fallen off screen, or has been flagged as dead and not moving and no veritcal image flip
             if (enemy.getY() > boundary.y + boundary.height || enemy.isDead() && !enemy.hasVelocity() && !enemy.hasVerticalFlip())
             {
-                //remove enemy from list
-                enemies.remove(i);
+                //remove enemy from list, the list of every enemy is compacted once the loop is finished
+                active.discard(i);
+                enemy.markRemoved();
+                left++;
                 
-                //move back to the previous index
-                i--;
+                removed = true;
             }
             
-            //even if we don't update the enemy we still need to adjust for scrolling
-            enemy.setX(enemy.getX() + engine.getManager().getWorld().getLevels().getLevel().getScrollX());
-            
             //if the enemy is at least a screen away don't update, but still update the projectile
-            if (enemy.getX() + enemy.getWidth()  < boundary.x - (boundary.width * 1))
+            if (enemy.getX() + enemy.getWidth() < west || enemy.getX() > east)
             {
                 enemy.updateProjectiles(engine);
+                
+                //once the projectiles are gone the enemy can sleep
+                if (!removed && enemy.getProjectiles().isEmpty())
+                {
+                    active.discard(i);
+                    sleep(enemy);
+                }
+                
                 continue;
             }
             
-            //if the enemy is at least a screen away don't update, but still update the projectile
-            if (enemy.getX() > boundary.x + (boundary.width * 2))
+            //this enemy will be updated
+            updating.add(enemy);
+        }
+        
+        //remove the enemies that left play or went to sleep, the rest keep their order
+        active.compact();
+        
+        //remove the enemies that left play from the list of every enemy in 1 pass
+        if (left > 0)
+        {
+            for (int i = 0; i < enemies.size(); i++)
             {
-                enemy.updateProjectiles(engine);
-                continue;
+                if (enemies.get(i).isRemoved())
+                    enemies.discard(i);
             }
             
-            //udpate enemy
-            enemy.update(engine);
+            enemies.compact();
+        }
+        
+        //update each enemy on the game thread, unless there are enough enemies to use multiple threads
+        if (updating.size() > engine.getEnemyParallelThreshold())
+        {
+            updateParallel(engine);
+        }
+        else
+        {
+            for (int i = 0; i < updating.size(); i++)
+            {
+                updating.get(i).update(engine);
+            }
+        }
+        
+        //remove the references until the next update
+        updating.clear();
+    }
+    
+    /**
+     * Update the enemies on multiple threads.<br>
+     * Every enemy is moved, then every enemy records what it touches, and the collisions are applied in order on the game thread.
+     * Last the a.i. logic of the enemies still alive is ran, and the projectiles thrown are added in order on the game thread.<br>
+     * The result is the same for a given seed, but it can be different from updating each enemy 1 at a time on the game thread,
+     * because every enemy has moved before any collision is checked and the a.i. logic sees the hero after every collision.
+     * @param engine Object containing our game elements
+     */
+    private void updateParallel(final Engine engine)
+    {
+        final ForkJoinPool pool = engine.getEnemyPool();
+        final Level level = engine.getManager().getWorld().getLevels().getLevel();
+        final Hero hero = engine.getManager().getMario();
+        final long time = engine.getMain().getTime();
+        
+        //move all the enemies at the same time, only each enemy itself is changed
+        pool.invoke(new UpdateTask(UpdateTask.MOVE, updating, level, hero, time, 0, updating.size()));
+        
+        //sort the moved enemies into columns before they are checked at the same time
+        getGrid();
+        
+        //record what each enemy touches at the same time, nothing is changed
+        pool.invoke(new UpdateTask(UpdateTask.PLAN, updating, level, hero, time, 0, updating.size()));
+        
+        //apply the collisions in order, the enemies that are still alive will think
+        thinking.clear();
+        
+        for (int i = 0; i < updating.size(); i++)
+        {
+            if (updating.get(i).resolve(engine))
+                thinking.add(updating.get(i));
+        }
+        
+        //run the a.i. logic at the same time, only each enemy itself is changed
+        pool.invoke(new UpdateTask(UpdateTask.THINK, thinking, level, hero, time, 0, thinking.size()));
+        
+        //add the projectiles thrown in order
+        for (int i = 0; i < thinking.size(); i++)
+        {
+            thinking.get(i).releaseProjectiles();
+        }
+        
+        thinking.clear();
+    }
+    
+    /**
+     * Update a range of enemies, the range is split until it is small enough for 1 thread
+     */
+    private static final class UpdateTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+        
+        /**
+         * Move the enemies
+         */
+        private static final int MOVE = 0;
+        
+        /**
+         * Record what the enemies touch
+         */
+        private static final int PLAN = 1;
+        
+        /**
+         * Run the a.i. logic
+         */
+        private static final int THINK = 2;
+        
+        //what is done to the enemies
+        private final int step;
+        
+        //the enemies to update
+        private final Entities<Enemy> enemies;
+        
+        //the current level
+        private final Level level;
+        
+        //the hero object
+        private final Hero hero;
+        
+        //the time duration to deduct (nanoseconds)
+        private final long time;
+        
+        //the range of enemies, the end is not included
+        private final int start, end;
+        
+        private UpdateTask(final int step, final Entities<Enemy> enemies, final Level level, final Hero hero, final long time, final int start, final int end)
+        {
+            this.step = step;
+            this.enemies = enemies;
+            this.level = level;
+            this.hero = hero;
+            this.time = time;
+            this.start = start;
+            this.end = end;
+        }
+        
+        @Override
+        protected void compute()
+        {
+            if (end - start <= BATCH_SIZE)
+            {
+                for (int i = start; i < end; i++)
+                {
+                    switch (step)
+                    {
+                        case MOVE:
+                            enemies.get(i).move(level, time);
+                            break;
+                            
+                        case PLAN:
+                            enemies.get(i).plan(hero, level);
+                            break;
+                            
+                        case THINK:
+                            enemies.get(i).think(hero, level, time);
+                            break;
+                    }
+                }
+            }
+            else
+            {
+                //split the range in half
+                final int middle = (start + end) >>> 1;
+                
+                invokeAll(
+                    new UpdateTask(step, enemies, level, hero, time, start, middle), 
+                    new UpdateTask(step, enemies, level, hero, time, middle, end));
+            }
         }
     }
     
     @Override
     public void render(final Graphics graphics)
     {
-        for (int i = 0; i < enemies.size(); i++)
+        //sleeping enemies are never on screen
+        for (int i = 0; i < active.size(); i++)
         {
             //get the current enemy
-            Enemy enemy = enemies.get(i);
+            Enemy enemy = active.get(i);
             
             //if not on screen, we won't render so skip to next
             if (enemy.getX() + enemy.getWidth()  < boundary.x || enemy.getX() > boundary.x + boundary.width)
@@ -544,10 +891,11 @@ public final class Enemies implements Disposable, IElement
     
     public void renderProjectiles(final Graphics graphics)
     {
-        for (int i = 0; i < enemies.size(); i++)
+        //sleeping enemies never have projectiles
+        for (int i = 0; i < active.size(); i++)
         {
             //get the current enemy
-            Enemy enemy = enemies.get(i);
+            Enemy enemy = active.get(i);
             
             //draw projectiles regardless if enemy isn't on screen
             enemy.renderProjectiles(graphics, boundary);
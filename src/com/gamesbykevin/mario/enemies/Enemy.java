@@ -12,7 +12,6 @@ import com.gamesbykevin.mario.world.level.tiles.Tiles;
 import com.gamesbykevin.mario.shared.IElement;
 
 import java.awt.Graphics;
-import java.util.List;
 
 public abstract class Enemy extends Character implements Disposable, IElement
 {
@@ -34,6 +33,12 @@ public abstract class Enemy extends Character implements Disposable, IElement
     //can this enemy hurt the other enemies
     private boolean hurtEnemies = false;
     
+    //what this enemy touched the last time it was checked for collision
+    private final EnemyIntent intent = new EnemyIntent();
+    
+    //has this enemy left play
+    private boolean removed = false;
+    
     //when we first jump the rate which we move
     public static final double DEFAULT_JUMP_VELOCITY = 3;
     
@@ -119,7 +124,7 @@ public abstract class Enemy extends Character implements Disposable, IElement
     protected void checkDefaultLevelCollision(final Tiles tiles)
     {
         //if we hit a tile at our feet, make sure to stop
-        if (checkCollisionSouth(tiles) != null)
+        if (checkCollisionSouth(tiles) != Tiles.NONE)
         {
             //stop jumping if we were previously
             if (super.isJumping())
@@ -129,14 +134,14 @@ public abstract class Enemy extends Character implements Disposable, IElement
         //if moving west, check for west collision
         if (getVelocityX() < 0)
         {
-            if (checkCollisionWest(tiles) != null)
+            if (checkCollisionWest(tiles) != Tiles.NONE)
                 turnAround();
         }
 
         //if moving east, check for east collision
         if (getVelocityX() > 0)
         {
-            if (checkCollisionEast(tiles) != null)
+            if (checkCollisionEast(tiles) != Tiles.NONE)
                 turnAround();
         }
     }
@@ -191,6 +196,19 @@ public abstract class Enemy extends Character implements Disposable, IElement
         return this.hurtEnemies;
     }
     
+    /**
+     * Flag that this enemy has left play, so it can be removed from the list of every enemy
+     */
+    protected void markRemoved()
+    {
+        this.removed = true;
+    }
+    
+    protected boolean isRemoved()
+    {
+        return this.removed;
+    }
+    
     protected void setType(final Enemies.Type type)
     {
         this.type = type;
@@ -235,17 +253,39 @@ public abstract class Enemy extends Character implements Disposable, IElement
         setY(bottomY - getHeight());
     }
     
+    @Override
+    public boolean usesTileCollision()
+    {
+        //defeated enemies fall through the tiles
+        return !isDead();
+    }
+    
     @Override
     public void update(final Engine engine)
     {
-        //get the current level
-        final Level level = engine.getManager().getWorld().getLevels().getLevel();
+        //update location/animation and apply gravity
+        move(engine.getManager().getWorld().getLevels().getLevel(), engine.getMain().getTime());
+        
+        //update sound/projectiles/collision/ai
+        interact(engine);
+    }
+    
+    /**
+     * Update the location and animation, then apply gravity.<br>
+     * Only this enemy is changed and the tiles are only read, so different enemies can be moved at the same time.
+     * @param level The current level
+     * @param time The time duration to deduct per each update (nanoseconds)
+     */
+    protected void move(final Level level, final long time)
+    {
+        //update location
+        updateLocation();
         
-        //update animation/location/sound
-        super.update(engine);
+        //make sure we did not move through a tile
+        checkCollisionSwept(level.getTiles());
         
-        //update the projetiles
-        super.updateProjectiles(engine);
+        //update animation
+        super.update(time);
         
         //apply gravity to the enemies that are supposed to
         if (!canDefyGravity())
@@ -253,20 +293,87 @@ public abstract class Enemy extends Character implements Disposable, IElement
             //apply gravity
             applyGravity(level.getTiles());
         }
+    }
+    
+    /**
+     * Play the sound, update the projectiles, check collision, and run the a.i. logic.<br>
+     * This changes the hero, level, and other enemies so it has to be done on the game thread, after move.
+     * @param engine Object containing our game elements
+     */
+    protected void interact(final Engine engine)
+    {
+        //get the current level
+        final Level level = engine.getManager().getWorld().getLevels().getLevel();
         
-        //don't continue if we are dead
+        //get the hero
+        final Hero hero = engine.getManager().getMario();
+        
+        //check what this enemy touches, then apply it right away
+        plan(hero, level);
+        
+        //update ai logic if the enemy is still alive
+        if (resolve(engine))
+            update(hero, level, engine.getMain().getTime());
+    }
+    
+    /**
+     * Check what this enemy touches and record it, nothing is changed.<br>
+     * Different enemies can be checked at the same time, as long as the enemies were already sorted into columns.
+     * @param hero The hero object
+     * @param level The current level
+     */
+    protected void plan(final Hero hero, final Level level)
+    {
+        intent.reset();
+        
+        //a dead enemy doesn't touch anything
         if (isDead())
             return;
         
         //check if this enemy can hurt others
         if (canHurtEnemies())
-            checkEnemyCollision(level);
+            findEnemyCollision(level.getEnemies().getGrid());
+        
+        //does the enemy have collision with the hero and the hero isn't dead
+        intent.setHero(hasCollision(hero) && !hero.isDead());
+    }
+    
+    /**
+     * Play the sound, update the projectiles, and apply the collision recorded by plan.<br>
+     * This changes the hero, level, and other enemies so it has to be done on the game thread.
+     * @param engine Object containing our game elements
+     * @return true if the enemy is still alive and the a.i. logic needs to be updated, false otherwise
+     */
+    protected boolean resolve(final Engine engine)
+    {
+        //get the current level
+        final Level level = engine.getManager().getWorld().getLevels().getLevel();
+        
+        //play sound
+        super.updateAudio(engine);
+        
+        //update the projetiles
+        super.updateProjectiles(engine);
+        
+        //don't continue if we are dead
+        if (isDead())
+        {
+            intent.reset();
+            return false;
+        }
+        
+        //knock out the enemies this enemy hit, unless another enemy already did
+        for (int i = 0; i < intent.getHitCount(); i++)
+        {
+            if (!intent.getHit(i).isDead())
+                intent.getHit(i).knockOut(level);
+        }
         
         //get the hero
         final Hero hero = engine.getManager().getMario();
         
-        //if the enemy has collision with the hero and the hero isn't dead
-        if (hasCollision(hero) && !hero.isDead())
+        //the enemies before this one may have moved the hero, so make sure they still touch
+        if (intent.hasHero() && hasCollision(hero) && !hero.isDead())
         {
             if (hero.isInvincible())
             {
@@ -359,16 +466,40 @@ public abstract class Enemy extends Character implements Disposable, IElement
         //check if any of the hero projectiles hit the enemy
         checkProjectileCollision(hero.getProjectiles(), level.getEffects());
 
+        //remove the references until the next check
+        intent.reset();
+        
         //make sure enemy is still not dead
-        if (!isDead())
-        {
-            //update ai logic
-            update(hero, level, engine.getMain().getTime());
-        }
-        else
+        if (isDead())
         {
             setTraditionalDeath();
+            return false;
         }
+        
+        return true;
+    }
+    
+    /**
+     * Run the a.i. logic without changing anything besides this enemy.<br>
+     * The projectiles thrown are held until they are released on the game thread, so different enemies can think at the same time.
+     * @param hero The hero object
+     * @param level The current level
+     * @param time The time duration to deduct per each update (nanoseconds)
+     */
+    protected void think(final Hero hero, final Level level, final long time)
+    {
+        super.holdProjectiles();
+        
+        update(hero, level, time);
+    }
+    
+    /**
+     * Add the projectiles thrown by think in the order they were thrown
+     */
+    @Override
+    protected void releaseProjectiles()
+    {
+        super.releaseProjectiles();
     }
     
     /**
@@ -390,46 +521,59 @@ public abstract class Enemy extends Character implements Disposable, IElement
     }
     
     /**
-     * Check if this enemy can hurt the others.<br>
+     * Find the enemies this enemy can hurt, they are recorded and knocked out later.<br>
      * This is primarily used when the turtle shells have been kicked etc...
-     * @param enemies Enemies we want to check for collision
+     * @param grid The enemies sorted into columns
      */
-    private void checkEnemyCollision(final Level level)
+    private void findEnemyCollision(final EnemyGrid grid)
     {
-        final List<Enemy> enemies = level.getEnemies().getEnemies();
+
+        //the enemies may have moved since they were sorted, so also check the neighboring columns
+        final int west = Math.max(0, EnemyGrid.getColumn(getX()) - 1);
+        final int east = Math.min(grid.getColumns() - 1, EnemyGrid.getColumn(getX() + getWidth()) + 1);
         
-        //check if hit another enemy
-        for (int i = 0; i < enemies.size(); i++)
+        //check if hit another enemy in the nearby columns
+        for (int col = west; col <= east; col++)
         {
-            //get the current enemy
-            Enemy enemy = enemies.get(i);
+            for (int i = grid.getStart(col); i < grid.getEnd(col); i++)
+            {
+                //get the current enemy
+                Enemy enemy = grid.get(i);
 
-            //ignore self or if dead
-            if (getId() == enemy.getId() || enemy.isDead())
-                continue;
+                //ignore self or if dead
+                if (getId() == enemy.getId() || enemy.isDead())
+                    continue;
 
-            //if the enemies touch
-            if (getRectangle().intersects(enemy.getRectangle()))
-            {
-                //mark enemy dead
-                enemy.markDead();
-                
-                //set audio to play
-                enemy.setAudioKey(GameAudio.Keys.SfxLevelKick);
-                
-                //fall off screen
-                enemy.setTraditionalDeath();
-                
-                //add effect
-                level.getEffects().add(enemy, Effects.Type.BreakBrick);
+                //if the enemies touch
+                if (overlaps(enemy))
+                    intent.addHit(enemy);
             }
         }
     }
     
+    /**
+     * This enemy was hit by another enemy, so it falls off the screen
+     * @param level The current level
+     */
+    private void knockOut(final Level level)
+    {
+        //mark enemy dead
+        markDead();
+        
+        //set audio to play
+        setAudioKey(GameAudio.Keys.SfxLevelKick);
+        
+        //fall off screen
+        setTraditionalDeath();
+        
+        //add effect
+        level.getEffects().add(this, Effects.Type.BreakBrick);
+    }
+    
     @Override
     public void render(final Graphics graphics)
     {
         //draw enemy
-        super.draw(graphics);
+        super.drawAnimation(graphics);
     }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.gamesbykevin.mario.enemies;
+
+import com.gamesbykevin.mario.entity.Entities;
+
+import java.util.Arrays;
+
+/**
+ * The state of the enemies copied into arrays, one array per value.<br>
+ * The values of each enemy are at the same index in every array, the copy is used to calculate the checksum that is recorded in the traces.
+ * @author GOD
+ */
+final class EnemyData
+{
+    /**
+     * The enemy has been flagged dead
+     */
+    protected static final int FLAG_DEAD = (1 << 0);
+    
+    /**
+     * The enemy is upside down
+     */
+    protected static final int FLAG_VERTICAL_FLIP = (1 << 1);
+    
+    /**
+     * The enemy is jumping or falling
+     */
+    protected static final int FLAG_JUMPING = (1 << 2);
+    
+    //the location of each enemy
+    private double[] x = new double[0];
+    private double[] y = new double[0];
+    
+    //the size of each enemy
+    private double[] width = new double[0];
+    private double[] height = new double[0];
+    
+    //the velocity of each enemy
+    private double[] velocityX = new double[0];
+    private double[] velocityY = new double[0];
+    
+    //the type of each enemy
+    private int[] type = new int[0];
+    
+    //the flags of each enemy
+    private int[] flags = new int[0];
+    
+    //the number of enemies copied
+    private int size = 0;
+    
+    protected EnemyData()
+    {
+        //do nothing
+    }
+    
+    /**
+     * Copy the current state of the enemies
+     * @param enemies The enemies we want to copy, the index of each enemy will be the same here
+     */
+    protected void capture(final Entities<Enemy> enemies)
+    {
+        size = enemies.size();
+        
+        //make sure there is room for every enemy
+        if (x.length < size)
+        {
+            final int capacity = Math.max(size, x.length * 2);
+            
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            width = Arrays.copyOf(width, capacity);
+            height = Arrays.copyOf(height, capacity);
+            velocityX = Arrays.copyOf(velocityX, capacity);
+            velocityY = Arrays.copyOf(velocityY, capacity);
+            type = Arrays.copyOf(type, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+        }
+        
+        for (int i = 0; i < size; i++)
+        {
+            final Enemy enemy = enemies.get(i);
+            
+            x[i] = enemy.getX();
+            y[i] = enemy.getY();
+            width[i] = enemy.getWidth();
+            height[i] = enemy.getHeight();
+            velocityX[i] = enemy.getVelocityX();
+            velocityY[i] = enemy.getVelocityY();
+            type[i] = (enemy.getType() == null) ? -1 : enemy.getType().ordinal();
+            
+            int flag = 0;
+            
+            if (enemy.isDead())
+                flag |= FLAG_DEAD;
+            if (enemy.hasVerticalFlip())
+                flag |= FLAG_VERTICAL_FLIP;
+            if (enemy.isJumping())
+                flag |= FLAG_JUMPING;
+            
+            flags[i] = flag;
+        }
+    }
+    
+    /**
+     * Get the number of enemies copied
+     * @return The number of enemies
+     */
+    protected int size()
+    {
+        return this.size;
+    }
+    
+    /**
+     * Calculate a checksum of the copied state.<br>
+     * Two runs with the same seed and input should have the same checksum after every update.
+     * @return The checksum of every value of every enemy
+     */
+    protected long getChecksum()
+    {
+        long checksum = size;
+        
+        for (int i = 0; i < size; i++)
+        {
+            checksum = (checksum * 31) + Double.doubleToLongBits(x[i]);
+            checksum = (checksum * 31) + Double.doubleToLongBits(y[i]);
+            checksum = (checksum * 31) + Double.doubleToLongBits(width[i]);
+            checksum = (checksum * 31) + Double.doubleToLongBits(height[i]);
+            checksum = (checksum * 31) + Double.doubleToLongBits(velocityX[i]);
+            checksum = (checksum * 31) + Double.doubleToLongBits(velocityY[i]);
+            checksum = (checksum * 31) + type[i];
+            checksum = (checksum * 31) + flags[i];
+        }
+        
+        return checksum;
+    }
+}
\ No newline at end of file
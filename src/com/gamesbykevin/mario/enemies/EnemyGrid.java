@@ -0,0 +1,154 @@
+package com.gamesbykevin.mario.enemies;
+
+import com.gamesbykevin.mario.entity.Entities;
+import com.gamesbykevin.mario.world.level.Level;
+import com.gamesbykevin.mario.world.level.tiles.Tile;
+
+import java.util.Arrays;
+
+/**
+ * The enemies sorted into columns the same width as a tile.<br>
+ * An enemy is placed in every column it overlaps, so only the enemies in nearby columns need to be checked for collision.
+ * @author GOD
+ */
+final class EnemyGrid
+{
+    //the index of the first entry in each column, the column ends where the next column starts
+    private int[] starts = new int[0];
+    
+    //the index where the next entry in each column will be placed
+    private int[] cursors = new int[0];
+    
+    //the enemies in each column
+    private Enemy[] entries = new Enemy[0];
+    
+    //the number of columns in use
+    private int columns = 0;
+    
+    protected EnemyGrid()
+    {
+        //do nothing
+    }
+    
+    /**
+     * Get the column that contains the x-coordinate
+     * @param x x-coordinate
+     * @return The column, the value will not be less than 0
+     */
+    protected static int getColumn(final double x)
+    {
+        return Math.max(0, (int)Math.floor((x - Level.LEVEL_START_X) / Tile.WIDTH));
+    }
+    
+    /**
+     * Sort the enemies into columns based on their current location
+     * @param enemies The enemies awake near the camera, the sleeping enemies are outside the area that is updated so they are not included
+     */
+    protected void rebuild(final Entities<Enemy> enemies)
+    {
+        //determine the number of columns needed
+        columns = 0;
+        
+        for (int i = 0; i < enemies.size(); i++)
+        {
+            final Enemy enemy = enemies.get(i);
+            
+            columns = Math.max(columns, getColumn(enemy.getX() + enemy.getWidth()) + 1);
+        }
+        
+        //make sure there is room for every column
+        if (starts.length < columns + 1)
+        {
+            starts = new int[columns + 1];
+            cursors = new int[columns + 1];
+        }
+        
+        Arrays.fill(starts, 0, columns + 1, 0);
+        
+        //count the enemies in each column
+        for (int i = 0; i < enemies.size(); i++)
+        {
+            final Enemy enemy = enemies.get(i);
+            
+            for (int col = getColumn(enemy.getX()); col <= getColumn(enemy.getX() + enemy.getWidth()); col++)
+            {
+                starts[col + 1]++;
+            }
+        }
+        
+        //each column starts where the previous column ends
+        for (int col = 0; col < columns; col++)
+        {
+            starts[col + 1] += starts[col];
+        }
+        
+        //make sure there is room for every entry
+        if (entries.length < starts[columns])
+            entries = new Enemy[starts[columns]];
+        
+        //remove any previous entries so the enemies can be recycled
+        Arrays.fill(entries, starts[columns], entries.length, null);
+        
+        System.arraycopy(starts, 0, cursors, 0, columns);
+        
+        //place the enemies in each column
+        for (int i = 0; i < enemies.size(); i++)
+        {
+            final Enemy enemy = enemies.get(i);
+            
+            for (int col = getColumn(enemy.getX()); col <= getColumn(enemy.getX() + enemy.getWidth()); col++)
+            {
+                entries[cursors[col]++] = enemy;
+            }
+        }
+    }
+    
+    /**
+     * Get the number of columns in use
+     * @return The number of columns
+     */
+    protected int getColumns()
+    {
+        return this.columns;
+    }
+    
+    /**
+     * Get the index of the first entry in the column
+     * @param column The column
+     * @return The index of the first entry
+     */
+    protected int getStart(final int column)
+    {
+        return starts[column];
+    }
+    
+    /**
+     * Get the index after the last entry in the column
+     * @param column The column
+     * @return The index where the next column starts
+     */
+    protected int getEnd(final int column)
+    {
+        return starts[column + 1];
+    }
+    
+    /**
+     * Get the enemy at the index
+     * @param index The index of the entry
+     * @return The enemy
+     */
+    protected Enemy get(final int index)
+    {
+        return entries[index];
+    }
+    
+    /**
+     * Remove all references to the enemies
+     */
+    protected void reset()
+    {
+        Arrays.fill(entries, null);
+        
+        columns = 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.gamesbykevin.mario.enemies;
+
+import java.util.Arrays;
+
+/**
+ * What an enemy touched when it was checked for collision.<br>
+ * The record is filled without changing anything, so different enemies can be checked at the same time.
+ * The collisions are then applied in order on the game thread.
+ * @author GOD
+ */
+final class EnemyIntent
+{
+    //the other enemies this enemy touched
+    private Enemy[] hits = new Enemy[4];
+    
+    //the number of enemies touched
+    private int count;
+    
+    //did this enemy touch the hero
+    private boolean hero;
+    
+    /**
+     * Remove everything recorded
+     */
+    protected void reset()
+    {
+        //remove the references so the enemies can be collected
+        Arrays.fill(hits, 0, count, null);
+        
+        count = 0;
+        hero = false;
+    }
+    
+    /**
+     * Record another enemy this enemy touched
+     * @param enemy The enemy touched
+     */
+    protected void addHit(final Enemy enemy)
+    {
+        if (count == hits.length)
+            hits = Arrays.copyOf(hits, hits.length * 2);
+        
+        hits[count++] = enemy;
+    }
+    
+    protected int getHitCount()
+    {
+        return this.count;
+    }
+    
+    protected Enemy getHit(final int index)
+    {
+        return this.hits[index];
+    }
+    
+    protected void setHero(final boolean hero)
+    {
+        this.hero = hero;
+    }
+    
+    /**
+     * Did this enemy touch the hero when it was checked
+     * @return true if the enemy and hero were touching and the hero was alive, false otherwise
+     */
+    protected boolean hasHero()
+    {
+        return this.hero;
+    }
+}
\ No newline at end of file
@@ -140,7 +140,7 @@ public final class FireballBros extends Enemy
         else
         {
             //if animation is finished we can start 
-            if (getSpriteSheet().hasFinished())
+            if (hasAnimationFinished())
             {
                 if (canThrowProjectile())
                 {
@@ -153,7 +153,7 @@ public final class FireballBros extends Enemy
                     setX(middleX - (BrosFireball.PROJECTILE_WIDTH / 2));
 
                     //add projectile
-                    addProjectile(new BrosFireball());
+                    addProjectile(BrosFireball.create());
 
                     //set sound to play
                     super.setAudioKey(GameAudio.Keys.SfxLevelEnemyFireball);
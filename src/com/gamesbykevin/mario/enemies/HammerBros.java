@@ -140,7 +140,7 @@ public final class HammerBros extends Enemy
         else
         {
             //if animation is finished we can start 
-            if (getSpriteSheet().hasFinished())
+            if (hasAnimationFinished())
             {
                 if (canThrowProjectile())
                 {
@@ -153,7 +153,7 @@ public final class HammerBros extends Enemy
                     setX(middleX - (Hammer.PROJECTILE_WIDTH / 2));
 
                     //add projectile
-                    addProjectile(new Hammer((heroMiddleX > middleX) ? true : false));
+                    addProjectile(Hammer.create((heroMiddleX > middleX) ? true : false));
 
                     //restore location
                     setY(y);
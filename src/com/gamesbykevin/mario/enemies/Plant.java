@@ -175,7 +175,7 @@ public final class Plant extends Enemy
                         if (timers.hasTimePassed(Key.Attack))
                         {
                             //add projectile
-                            addProjectile(new PlantFireball(isAnimation(State.FaceNorth) ? true : false));
+                            addProjectile(PlantFireball.create(isAnimation(State.FaceNorth) ? true : false));
                             
                             //set sound to play
                             super.setAudioKey(GameAudio.Keys.SfxLevelEnemyFireball);
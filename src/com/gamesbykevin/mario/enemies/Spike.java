@@ -157,7 +157,7 @@ public final class Spike extends Enemy
                         correctFacingDirection((middleX < heroMiddleX) ? true : false);
                         
                         //add projectile
-                        addProjectile(new SpikeBall());
+                        addProjectile(SpikeBall.create());
                         
                         //reset timer
                         timer.reset();
@@ -167,7 +167,7 @@ public final class Spike extends Enemy
         }
         else if (isAnimation(State.Attacking))
         {
-            if (getSpriteSheet().hasFinished())
+            if (hasAnimationFinished())
             {
                 //start walking again
                 setAnimation(State.Walking, true);
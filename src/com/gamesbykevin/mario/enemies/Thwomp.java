@@ -125,7 +125,7 @@ public final class Thwomp extends Enemy
         else if (isAnimation(State.Attack))
         {
             //if we hit a tile at our feet, make sure to stop
-            if (checkCollisionSouth(tiles) != null)
+            if (checkCollisionSouth(tiles) != Tiles.NONE)
             {
                 //stop jumping and this will also stop velocity
                 stopJumping();
@@ -219,7 +219,7 @@ public final class TurtleGreenWings extends Enemy
         }
 
         //if we hit a tile at our feet, make sure to stop
-        if (checkCollisionSouth(tiles) != null)
+        if (checkCollisionSouth(tiles) != Tiles.NONE)
         {
             if (isJumping())
             {
@@ -242,14 +242,14 @@ public final class TurtleGreenWings extends Enemy
         //if moving west, check for west collision
         if (getVelocityX() < 0)
         {
-            if (checkCollisionWest(tiles) != null)
+            if (checkCollisionWest(tiles) != Tiles.NONE)
                 turnAround();
         }
         
         //if moving east, check for east collision
         if (getVelocityX() > 0)
         {
-            if (checkCollisionEast(tiles) != null)
+            if (checkCollisionEast(tiles) != Tiles.NONE)
                 turnAround();
         }
         
@@ -1,5 +1,6 @@
 package com.gamesbykevin.mario.engine;
 
+import com.gamesbykevin.mario.enemies.Enemies;
 import com.gamesbykevin.mario.main.Main;
 import com.gamesbykevin.mario.manager.Manager;
 import com.gamesbykevin.mario.menu.CustomMenu;
@@ -11,6 +12,7 @@ import com.gamesbykevin.framework.input.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 public final class Engine implements KeyListener, MouseMotionListener, MouseListener, IEngine 
 {
@@ -39,7 +41,16 @@ public final class Engine implements KeyListener, MouseMotionListener, MouseList
     private Font font;
     
     //seed for the Random object
-    private final long seed = System.nanoTime();
+    private final long seed;
+    
+    //the number of lives the hero has when there is no menu to choose from
+    private static final int HEADLESS_LIVES = 99;
+    
+    //the number of enemies that need to be updated before they are updated on multiple threads
+    private int enemyParallelThreshold = Enemies.DEFAULT_PARALLEL_THRESHOLD;
+    
+    //the threads used to update the enemies, created the first time they are needed
+    private ForkJoinPool enemyPool;
     
     /**
      * The Engine that contains the game/menu objects
@@ -48,10 +59,25 @@ public final class Engine implements KeyListener, MouseMotionListener, MouseList
      * @throws CustomException 
      */
     public Engine(final Main main) throws Exception
+    {
+        this(main, System.nanoTime());
+    }
+    
+    /**
+     * The Engine that contains the game/menu objects
+     * 
+     * @param main Main object that contains important information so we need a reference to it
+     * @param seed Seed for the Random object so the same game can be repeated
+     * @throws CustomException 
+     */
+    public Engine(final Main main, final long seed) throws Exception
     {
         //reference to parent class
         this.main = main;
         
+        //store the seed
+        this.seed = seed;
+        
         //object used to track mouse input
         this.mouse = new Mouse();
         
@@ -104,6 +130,12 @@ public final class Engine implements KeyListener, MouseMotionListener, MouseList
                 manager = null;
             }
             
+            if (enemyPool != null)
+            {
+                enemyPool.shutdown();
+                enemyPool = null;
+            }
+            
             random = null;
         }
         catch(Exception e)
@@ -117,6 +149,13 @@ public final class Engine implements KeyListener, MouseMotionListener, MouseList
     {
         try
         {
+            //if there is no display we skip the menu
+            if (main.isHeadless())
+            {
+                updateHeadless(main);
+                return;
+            }
+            
             if (this.menu == null)
             {
                 //create new menu
@@ -172,11 +211,65 @@ public final class Engine implements KeyListener, MouseMotionListener, MouseList
         }
     }
     
+    /**
+     * Update the game without a menu, all resources are loaded at once and the audio is disabled
+     * @param main Main object that contains important information so we need a reference to it
+     * @throws Exception 
+     */
+    private void updateHeadless(final Main main) throws Exception
+    {
+        if (manager == null)
+        {
+            //if our resources object is empty create a new one
+            if (resources == null)
+                this.resources = new Resources();
+            
+            //there is no progress to draw so load all resources now
+            while (resources.isLoading())
+            {
+                resources.update(main.getContainerClass());
+            }
+            
+            //create new manager with the audio disabled
+            manager = new Manager(this, false, HEADLESS_LIVES);
+        }
+        
+        //update main game logic
+        manager.update(this);
+    }
+    
     public long getSeed()
     {
         return this.seed;
     }
     
+    /**
+     * Set the number of enemies that need to be updated before they are updated on multiple threads.<br>
+     * The result on multiple threads is the same for a given seed, but it can be different from the game thread.
+     * @param enemyParallelThreshold The number of enemies, use Integer.MAX_VALUE to always update on the game thread
+     */
+    public void setEnemyParallelThreshold(final int enemyParallelThreshold)
+    {
+        this.enemyParallelThreshold = enemyParallelThreshold;
+    }
+    
+    public int getEnemyParallelThreshold()
+    {
+        return this.enemyParallelThreshold;
+    }
+    
+    /**
+     * Get the threads used to update the enemies, the threads are created the first time
+     * @return The pool of threads
+     */
+    public ForkJoinPool getEnemyPool()
+    {
+        if (enemyPool == null)
+            enemyPool = new ForkJoinPool();
+        
+        return this.enemyPool;
+    }
+    
     /**
      * Flag the engine to reset the game
      */
@@ -261,6 +354,13 @@ public final class Engine implements KeyListener, MouseMotionListener, MouseList
             //draw menu on top of the game if visible
             renderMenu(graphics);
         }
+        else if (manager != null)
+        {
+            //there is no menu when running without a display, so only draw the game elements
+            graphics.setFont(font);
+            
+            manager.render(graphics);
+        }
     }
     
     /**
@@ -0,0 +1,140 @@
+package com.gamesbykevin.mario.entity;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The animations defined by a class, shared by every entity of that class.<br>
+ * A set never changes, when a class defines a new animation the set of the class is replaced with a larger copy.
+ * Once the first entity of a class has defined its animations, every other entity of the class finds them here.<br>
+ * The sets can be used from any thread, projectiles may be created while the enemies are updated on multiple threads.
+ * @author GOD
+ */
+final class AnimationSet
+{
+    //the set of each class
+    private static final ConcurrentHashMap<Class<?>, AnimationSet> SETS = new ConcurrentHashMap<>();
+    
+    //the set of a class that has not defined any animations
+    private static final AnimationSet EMPTY = new AnimationSet(new Object[0], new AnimationTemplate[0], new HashMap<Object, Integer>());
+    
+    //the key of each animation
+    private final Object[] keys;
+    
+    //the frames of each animation
+    private final AnimationTemplate[] templates;
+    
+    //the index of each animation by key
+    private final HashMap<Object, Integer> indexes;
+    
+    private AnimationSet(final Object[] keys, final AnimationTemplate[] templates, final HashMap<Object, Integer> indexes)
+    {
+        this.keys = keys;
+        this.templates = templates;
+        this.indexes = indexes;
+    }
+    
+    /**
+     * Get the animations defined by the class
+     * @param owner The class of the entity
+     * @return The set of the class, an empty set if the class has not defined any animations
+     */
+    protected static AnimationSet get(final Class<?> owner)
+    {
+        final AnimationSet set = SETS.get(owner);
+        
+        return (set == null) ? EMPTY : set;
+    }
+    
+    /**
+     * Define the animation for the class.<br>
+     * If the class already has the animation, the frames have to be the same.
+     * @param owner The class of the entity the animation belongs to
+     * @param key The unique identifier of the animation
+     * @param count The number of animation frames
+     * @param startX The starting x-coordinate of our first frame
+     * @param startY The starting y-coordinate of our first frame
+     * @param width Width of each frame
+     * @param height Height of each frame
+     * @param delay The time delay between each frame (nano-seconds)
+     * @param loop Does the animation loop once finished
+     * @return The set of the class containing the animation
+     * @throws Exception if the class already defined the animation with different frames
+     */
+    protected static AnimationSet define(final Class<?> owner, final Object key, final int count, final int startX, final int startY, final int width, final int height, final long delay, final boolean loop) throws Exception
+    {
+        while (true)
+        {
+            final AnimationSet set = get(owner);
+            
+            final int index = set.indexOf(key);
+            
+            if (index >= 0)
+            {
+                //the class can't have 2 different animations with the same key
+                if (!set.templates[index].matches(count, startX, startY, width, height, delay, loop))
+                    throw new Exception("Animation " + key.toString() + " of " + owner.getName() + " was already defined with different frames");
+                
+                return set;
+            }
+            
+            final AnimationSet larger = set.add(key, new AnimationTemplate(count, startX, startY, width, height, delay, loop));
+            
+            //if another thread changed the set first, check again
+            if (set == EMPTY ? SETS.putIfAbsent(owner, larger) == null : SETS.replace(owner, set, larger))
+                return larger;
+        }
+    }
+    
+    /**
+     * Create a copy of this set with the animation added at the end
+     * @param key The unique identifier of the animation
+     * @param template The frames of the animation
+     * @return The new set
+     */
+    private AnimationSet add(final Object key, final AnimationTemplate template)
+    {
+        final HashMap<Object, Integer> copy = new HashMap<>(indexes);
+        copy.put(key, keys.length);
+        
+        final Object[] keysCopy = Arrays.copyOf(keys, keys.length + 1);
+        keysCopy[keys.length] = key;
+        
+        final AnimationTemplate[] templatesCopy = Arrays.copyOf(templates, templates.length + 1);
+        templatesCopy[templates.length] = template;
+        
+        return new AnimationSet(keysCopy, templatesCopy, copy);
+    }
+    
+    /**
+     * Get the index of the animation
+     * @param key The animation we are looking for
+     * @return The index of the animation, -1 if the class does not have the animation
+     */
+    protected int indexOf(final Object key)
+    {
+        final Integer index = indexes.get(key);
+        
+        return (index == null) ? -1 : index;
+    }
+    
+    /**
+     * Get the number of animations
+     * @return The number of animations defined by the class
+     */
+    protected int size()
+    {
+        return this.keys.length;
+    }
+    
+    protected Object getKey(final int index)
+    {
+        return this.keys[index];
+    }
+    
+    protected AnimationTemplate getTemplate(final int index)
+    {
+        return this.templates[index];
+    }
+}
\ No newline at end of file
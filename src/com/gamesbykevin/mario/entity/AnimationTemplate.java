@@ -0,0 +1,86 @@
+package com.gamesbykevin.mario.entity;
+
+/**
+ * The frames of an animation, the frames are placed next to each other on the sprite sheet.<br>
+ * A template never changes so it is shared by every entity of the same class, each entity only keeps track of its current frame.
+ * @author GOD
+ * @see AnimationSet
+ */
+public final class AnimationTemplate
+{
+    //number of animation frames
+    private final int count;
+    
+    //location of the first animation frame on the sprite sheet
+    private final int startX, startY;
+    
+    //the size of each frame
+    private final int width, height;
+    
+    //the time delay between each frame (nano-seconds)
+    private final long delay;
+    
+    //does the animation loop
+    private final boolean loop;
+    
+    protected AnimationTemplate(final int count, final int startX, final int startY, final int width, final int height, final long delay, final boolean loop)
+    {
+        this.count = count;
+        this.startX = startX;
+        this.startY = startY;
+        this.width = width;
+        this.height = height;
+        this.delay = delay;
+        this.loop = loop;
+    }
+    
+    /**
+     * Does this template have the same frames
+     * @return true if every value is the same, false otherwise
+     */
+    protected boolean matches(final int count, final int startX, final int startY, final int width, final int height, final long delay, final boolean loop)
+    {
+        return (this.count == count && this.startX == startX && this.startY == startY &&
+                this.width == width && this.height == height && this.delay == delay && this.loop == loop);
+    }
+    
+    public int getCount()
+    {
+        return this.count;
+    }
+    
+    /**
+     * Get the x-coordinate of the frame on the sprite sheet
+     * @param frame The animation frame
+     * @return x-coordinate
+     */
+    public int getX(final int frame)
+    {
+        return (startX + (frame * width));
+    }
+    
+    public int getY()
+    {
+        return this.startY;
+    }
+    
+    public int getWidth()
+    {
+        return this.width;
+    }
+    
+    public int getHeight()
+    {
+        return this.height;
+    }
+    
+    public long getDelay()
+    {
+        return this.delay;
+    }
+    
+    public boolean hasLoop()
+    {
+        return this.loop;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,176 @@
+package com.gamesbykevin.mario.entity;
+
+import java.util.Arrays;
+
+/**
+ * A container of entities that keeps the order the entities were added, so the update and draw order never changes.<br>
+ * When removing while looping through the entities, discard the entity instead and compact once the loop is finished.
+ * This way the entities after it are shifted once per loop instead of once per removal.
+ * @author GOD
+ * @param <T> The type of entity
+ */
+public final class Entities<T extends Entity>
+{
+    //the default number of entities we have room for
+    private static final int DEFAULT_CAPACITY = 10;
+    
+    //the entities in the container
+    private Entity[] entities;
+    
+    //the number of entities in the container
+    private int size = 0;
+    
+    //the number of entities discarded since the last compact
+    private int discarded = 0;
+    
+    public Entities()
+    {
+        this.entities = new Entity[DEFAULT_CAPACITY];
+    }
+    
+    /**
+     * Get the number of entities
+     * @return The number of entities in the container
+     */
+    public int size()
+    {
+        return this.size;
+    }
+    
+    /**
+     * Are there no entities
+     * @return true if the container is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return (size == 0);
+    }
+    
+    /**
+     * Get the entity at the index
+     * @param index The index of the entity
+     * @return The entity, null if the entity was discarded and the container has not been compacted yet
+     */
+    @SuppressWarnings("unchecked")
+    public T get(final int index)
+    {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        
+        return (T)entities[index];
+    }
+    
+    /**
+     * Add the entity to the end of the container
+     * @param entity The entity we want to add
+     */
+    public void add(final T entity)
+    {
+        //make room if we are full
+        if (size == entities.length)
+            entities = Arrays.copyOf(entities, size * 2);
+        
+        entities[size++] = entity;
+    }
+    
+    /**
+     * Remove the entity at the index, the entities after it are shifted back by 1
+     * @param index The index of the entity we want to remove
+     * @return The entity removed
+     */
+    public T remove(final int index)
+    {
+        final T entity = get(index);
+        
+        //shift the following entities back in order
+        size--;
+        System.arraycopy(entities, index + 1, entities, index, size - index);
+        entities[size] = null;
+        
+        return entity;
+    }
+    
+    /**
+     * Discard the entity at the index while looping through the entities.<br>
+     * The index is left empty and no entity is moved, so the loop continues with the next index.
+     * Call compact once the loop is finished.
+     * @param index The index of the entity we want to remove
+     * @return The entity discarded
+     */
+    public T discard(final int index)
+    {
+        final T entity = get(index);
+        
+        //leave the index empty until we compact
+        entities[index] = null;
+        discarded++;
+        
+        return entity;
+    }
+    
+    /**
+     * Remove the empty indexes left by discard, the remaining entities keep their order
+     */
+    public void compact()
+    {
+        if (discarded == 0)
+            return;
+        
+        int count = 0;
+        
+        //move each remaining entity to the next open index
+        for (int i = 0; i < size; i++)
+        {
+            if (entities[i] != null)
+                entities[count++] = entities[i];
+        }
+        
+        Arrays.fill(entities, count, size, null);
+        size = count;
+        discarded = 0;
+    }
+    
+    /**
+     * Remove the entity, the entities after it are shifted back by 1.<br>
+     * The entity has to be found first so this is linear, use remove or discard with the index when it is known.
+     * @param entity The entity we want to remove
+     * @return true if the entity was found and removed, false otherwise
+     */
+    public boolean remove(final T entity)
+    {
+        for (int i = 0; i < size; i++)
+        {
+            if (entities[i] == entity)
+            {
+                remove(i);
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Remove all entities
+     */
+    public void clear()
+    {
+        Arrays.fill(entities, 0, size, null);
+        size = 0;
+        discarded = 0;
+    }
+    
+    /**
+     * Dispose all entities and remove them
+     */
+    public void dispose()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            if (entities[i] != null)
+                entities[i].dispose();
+        }
+        
+        clear();
+    }
+}
\ No newline at end of file
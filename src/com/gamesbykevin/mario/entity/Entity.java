@@ -1,16 +1,22 @@
 package com.gamesbykevin.mario.entity;
 
-import com.gamesbykevin.framework.base.Animation;
 import com.gamesbykevin.framework.base.Sprite;
 import com.gamesbykevin.framework.resources.Disposable;
 import com.gamesbykevin.framework.util.Timers;
 
 import com.gamesbykevin.mario.engine.Engine;
 import com.gamesbykevin.mario.resources.GameAudio;
+import com.gamesbykevin.mario.resources.SpriteAtlas;
 import com.gamesbykevin.mario.shared.IAudio;
 import com.gamesbykevin.mario.world.level.tiles.Tile;
+import com.gamesbykevin.mario.world.level.tiles.TileContacts;
 import com.gamesbykevin.mario.world.level.tiles.Tiles;
 
+import java.awt.Graphics;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.util.Arrays;
+
 /**
  * Every object in the game is an entity
  * @author GOD
@@ -40,10 +46,38 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
     //determine when entity is dead (if applicable)
     private boolean dead = false;
     
+    //the animations of the class, shared with every entity of the same class
+    private AnimationSet animations = null;
+    
+    //which animations of the class were added to this entity
+    private boolean[] added = EMPTY_FLAGS;
+    
+    //the current frame of each animation
+    private int[] frames = EMPTY_FRAMES;
+    
+    //the time passed on the current frame of each animation (nano-seconds)
+    private long[] elapsed = EMPTY_ELAPSED;
+    
+    //has each animation finished
+    private boolean[] finished = EMPTY_FLAGS;
+    
+    //the cursors of an entity without animations, these are never written to
+    private static final boolean[] EMPTY_FLAGS = new boolean[0];
+    private static final int[] EMPTY_FRAMES = new int[0];
+    private static final long[] EMPTY_ELAPSED = new long[0];
+    
+    //the index of the current animation, -1 if no animation is set
+    private int current = -1;
+    
+    //the distance moved during the last location update
+    private double moveX = 0, moveY = 0;
+    
+    //the solid tiles touching each side
+    private final TileContacts contacts = new TileContacts();
+    
     protected Entity()
     {
-        //create sprite sheet
-        super.createSpriteSheet();
+        //the animations are stored here, so no sprite sheet is created
     }
     
     protected double getNorthX()
@@ -125,24 +159,25 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
             if (hasAnimation(key))
                 throw new Exception("Animation was already added: " + key.toString());
 
-            //create a new animation
-            Animation animation = new Animation();
-
-            //does this animation loop?
-            animation.setLoop(loop);
-
-            //load animation frames
-            for (int i=0; i < count; i++)
+            //the frames are shared with every entity of the same class, only the first entity creates them
+            animations = AnimationSet.define(getClass(), key, count, startX, startY, w, h, delay, loop);
+            
+            //the cursors are sized once, unless the class is still defining its animations
+            if (added.length < animations.size())
             {
-                animation.add(startX + (i * w), startY, w, h, delay);
+                added = Arrays.copyOf(added, animations.size());
+                frames = Arrays.copyOf(frames, animations.size());
+                elapsed = Arrays.copyOf(elapsed, animations.size());
+                finished = Arrays.copyOf(finished, animations.size());
             }
-
-            //add animation to our sprite sheet
-            super.getSpriteSheet().add(animation, key);
+            
+            //add animation to this entity
+            final int index = animations.indexOf(key);
+            added[index] = true;
             
             //if the current animation isn't set, set this one by default
-            if (super.getSpriteSheet().getCurrent() == null)
-                super.getSpriteSheet().setCurrent(key);
+            if (current < 0)
+                current = index;
         }
         catch (Exception e)
         {
@@ -155,7 +190,28 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
      */
     public void resetAnimation()
     {
-        super.getSpriteSheet().reset();
+        if (current < 0)
+            return;
+        
+        frames[current] = 0;
+        elapsed[current] = 0;
+        finished[current] = false;
+    }
+    
+    /**
+     * Get the index of the animation
+     * @param key The animation we are looking for
+     * @return The index of the animation, -1 if the animation was not added
+     */
+    private int getAnimationIndex(final Object key)
+    {
+        if (animations == null)
+            return -1;
+        
+        final int index = animations.indexOf(key);
+        
+        //the class may have animations this entity did not add
+        return (index >= 0 && index < added.length && added[index]) ? index : -1;
     }
     
     /**
@@ -165,7 +221,7 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
      */
     protected final boolean isAnimation(final Object object)
     {
-        return (super.getSpriteSheet().getCurrent() == object);
+        return (getCurrentAnimation() == object);
     }
     
     /**
@@ -175,7 +231,7 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
      */
     protected final boolean hasAnimation(final Object object)
     {
-        return (super.getSpriteSheet().getSpriteSheetAnimation(object) != null);
+        return (getAnimationIndex(object) >= 0);
     }
     
     /**
@@ -187,11 +243,13 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
     {
         try
         {
-            if (!hasAnimation(key))
+            final int index = getAnimationIndex(key);
+            
+            if (index < 0)
                 throw new Exception("Animation does not exist: " + key.toString());
             
             //set the current animation
-            getSpriteSheet().setCurrent(key);
+            current = index;
             
             if (reset)
                 resetAnimation();
@@ -208,15 +266,127 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
      */
     public void update(final long time)
     {
-        try
+        //there is nothing to update if there is no animation or it has finished
+        if (current < 0 || finished[current])
+            return;
+        
+        final AnimationTemplate animation = animations.getTemplate(current);
+        
+        //add the time passed
+        elapsed[current] += time;
+        
+        //check if it is time to move to the next frame
+        if (elapsed[current] < animation.getDelay())
+            return;
+        
+        //start timing the next frame
+        elapsed[current] = 0;
+        
+        if (frames[current] < animation.getCount() - 1)
         {
-            //update animation
-            super.getSpriteSheet().update(time);
+            //move to the next frame
+            frames[current]++;
         }
-        catch(Exception e)
+        else if (animation.hasLoop())
         {
-            e.printStackTrace();
+            //start the animation over
+            frames[current] = 0;
+        }
+        else
+        {
+            //the last frame has been displayed
+            finished[current] = true;
+        }
+    }
+    
+    /**
+     * Has the current animation finished
+     * @return true if the current animation does not loop and the last frame has been displayed, false otherwise
+     */
+    public boolean hasAnimationFinished()
+    {
+        return (current >= 0 && finished[current]);
+    }
+    
+    /**
+     * Set the width/height to the size of the current animation frame
+     */
+    @Override
+    public void setDimensions()
+    {
+        if (current < 0)
+            return;
+        
+        super.setDimensions(animations.getTemplate(current).getWidth(), animations.getTemplate(current).getHeight());
+    }
+    
+    /**
+     * Draw the current animation frame using the image of this entity
+     * @param graphics Object where images will be written
+     */
+    public void drawAnimation(final Graphics graphics)
+    {
+        drawAnimation(graphics, getImage());
+    }
+    
+    /**
+     * Draw the current animation frame at the location of this entity, the frame will be flipped if set
+     * @param graphics Object where images will be written
+     * @param image The sprite sheet containing the animation
+     */
+    public void drawAnimation(final Graphics graphics, final Image image)
+    {
+        if (current < 0 || image == null)
+            return;
+        
+        final AnimationTemplate animation = animations.getTemplate(current);
+        
+        //locate the frame on the sprite sheet
+        int sourceX = animation.getX(frames[current]);
+        int sourceY = animation.getY();
+        
+        //the area where the frame will be drawn
+        int x1 = (int)getX();
+        int y1 = (int)getY();
+        int x2 = x1 + (int)getWidth();
+        int y2 = y1 + (int)getHeight();
+        
+        if (hasHorizontalFlip() || hasVerticalFlip())
+        {
+            //the mirrored copy of the sprite sheet already has the frame flipped
+            final Image flipped = SpriteAtlas.get(image, hasHorizontalFlip(), hasVerticalFlip());
+            
+            if (flipped != null)
+            {
+                //locate the frame on the mirrored copy
+                if (hasHorizontalFlip())
+                    sourceX = image.getWidth(null) - sourceX - animation.getWidth();
+                if (hasVerticalFlip())
+                    sourceY = image.getHeight(null) - sourceY - animation.getHeight();
+                
+                //draw the frame without flipping
+                graphics.drawImage(flipped, x1, y1, x2, y2, sourceX, sourceY, sourceX + animation.getWidth(), sourceY + animation.getHeight(), null);
+                return;
+            }
+        }
+        
+        //swap the coordinates to flip the frame
+        if (hasHorizontalFlip())
+        {
+            final int x = x1;
+            x1 = x2;
+            x2 = x;
+        }
+        
+        if (hasVerticalFlip())
+        {
+            final int y = y1;
+            y1 = y2;
+            y2 = y;
         }
+        
+        //draw the frame
+        graphics.drawImage(image, x1, y1, x2, y2, sourceX, sourceY, sourceX + animation.getWidth(), sourceY + animation.getHeight(), null);
     }
     
     public void update(final Engine engine)
@@ -224,11 +394,43 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
         try
         {
             //update location
-            super.update();
+            updateLocation();
             
             //update animation
             update(engine.getMain().getTime());
             
+            //play the sound if there is one
+            updateAudio(engine);
+        }
+        catch(Exception e)
+        {
+            e.printStackTrace();
+        }
+    }
+    
+    /**
+     * Update the location by the velocity and remember how far we moved, so the move can be checked with checkCollisionSwept
+     */
+    protected void updateLocation()
+    {
+        final double x = getX();
+        final double y = getY();
+        
+        //update location
+        super.update();
+        
+        moveX = getX() - x;
+        moveY = getY() - y;
+    }
+    
+    /**
+     * Play the sound assigned to this entity, once played the sound is removed
+     * @param engine Object containing our resources
+     */
+    protected void updateAudio(final Engine engine)
+    {
+        try
+        {
             //if there is audio to be played
             if (getAudioKey() != null)
             {
@@ -263,7 +465,7 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
      */
     public Object getCurrentAnimation()
     {
-        return super.getSpriteSheet().getCurrent();
+        return (current < 0) ? null : animations.getKey(current);
     }
     
     public double getJumpVelocity()
@@ -329,48 +531,101 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
         }
         else
         {
-            //store original location for now
-            final double y = super.getY();
-
-            //apply gravity temporary to check below tiles
-            super.setY(y + VELOCITY_DECREASE);
-
-            //get the tile below
-            Tile tile = tiles.getTile(getSouthX(), getSouthY());
+            //get the solid tile below once gravity is applied
+            final int cell = getContacts(tiles).getGround(VELOCITY_DECREASE);
             
             //if there is no tile below or not solid
-            if (tile == null || !tile.isSolid())
+            if (cell == Tiles.NONE)
             {
                 //apply gravity
                 setJump(true);
                 setVelocityY(VELOCITY_DECREASE);
             }
-
-            //restore y-coordinate
-            super.setY(y);
         }
     }
     
+    /**
+     * Get the solid tiles touching each side of this entity.<br>
+     * Each side is checked the first time it is needed, and only checked again after the entity moves or the tiles change.
+     * @param tiles The object containing all tiles in the level
+     * @return The contacts of this entity
+     */
+    public TileContacts getContacts(final Tiles tiles)
+    {
+        return tiles.getContacts(getX(), getY(), getWidth(), getHeight(), contacts);
+    }
+    
+    /**
+     * Does this entity stop at solid tiles.<br>
+     * Only these entities have their moves checked with checkCollisionSwept.
+     * @return true if the entity collides with the tiles, false if it passes through them
+     */
+    public boolean usesTileCollision()
+    {
+        return false;
+    }
+    
+    /**
+     * Check the last location update for a solid tile that was passed through.<br>
+     * If the move was too far for the other collision checks to find the tile, the entity is moved back to where it touches the tile.<br>
+     * A shorter move is not checked, so this costs nothing for slower entities.
+     * @param tiles The object containing all tiles in the level
+     * @return The cell the entity ran into, if no collision Tiles.NONE is returned
+     */
+    public int checkCollisionSwept(final Tiles tiles)
+    {
+        final double dx = moveX;
+        final double dy = moveY;
+        
+        //the move is only checked once
+        moveX = 0;
+        moveY = 0;
+        
+        //entities that pass through tiles are never stopped
+        if (!usesTileCollision())
+            return Tiles.NONE;
+        
+        //the other checks will find the tile if we moved less than half a tile
+        if (Math.abs(dx) < Tile.WIDTH / 2 && Math.abs(dy) < Tile.HEIGHT / 2)
+            return Tiles.NONE;
+        
+        //where we were before the move
+        final double x = getX() - dx;
+        final double y = getY() - dy;
+        
+        final int cell = tiles.sweep(x, y, getWidth(), getHeight(), dx, dy);
+        
+        if (cell != Tiles.NONE)
+        {
+            final double time = tiles.getEntryTime(cell, x, y, getWidth(), getHeight(), dx, dy);
+            
+            //place the entity where it touches the tile
+            setLocation(x + (dx * time), y + (dy * time));
+        }
+        
+        return cell;
+    }
+    
     /**
      * Check for collision with the level tiles
      * @param tiles The object containing all tiles in the level
-     * @return The tile the character has collision with, if no collision null is returned
+     * @return The cell the character has collision with, if no collision Tiles.NONE is returned
      */
-    public Tile checkCollisionWest(final Tiles tiles)
+    public int checkCollisionWest(final Tiles tiles)
     {
-        Tile tile = tiles.getTile(getWestX(), getWestY());
+        final int cell = getContacts(tiles).getWest();
         
         //if there is a tile, then there is collision
-        if (tile != null && tile.isSolid())
+        if (cell != Tiles.NONE)
         {
             //correct coordinate
-            setX(tile.getX() + tile.getWidth());
+            setX(tiles.getX(cell) + Tile.WIDTH);
             
             //return collision tile
-            return tile;
+            return cell;
         }
         
-        return null;
+        return Tiles.NONE;
     }
     
     /**
@@ -380,7 +635,7 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
      */
     public boolean checkCollisionEast(final Entity entity)
     {
-        return entity.getRectangle().contains(getEastX(), getEastY());
+        return entity.containsPoint(getEastX(), getEastY());
     }
     
     /**
@@ -390,7 +645,7 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
      */
     public boolean checkCollisionWest(final Entity entity)
     {
-        return entity.getRectangle().contains(getWestX(), getWestY());
+        return entity.containsPoint(getWestX(), getWestY());
     }
     
     /**
@@ -400,7 +655,7 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
      */
     public boolean checkCollisionNorth(final Entity entity)
     {
-        return entity.getRectangle().contains(getNorthX(), getNorthY());
+        return entity.containsPoint(getNorthX(), getNorthY());
     }
     
     /**
@@ -427,7 +682,7 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
      */
     public boolean checkCollisionSouth(final Entity entity)
     {
-        return entity.getRectangle().contains(getSouthX(), getSouthY());
+        return entity.containsPoint(getSouthX(), getSouthY());
     }
     
     /**
@@ -437,7 +692,7 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
      */
     public boolean checkCollisionNorthWest(final Entity entity)
     {
-        return entity.getRectangle().contains(getNorthWestX(), getNorthWestY());
+        return entity.containsPoint(getNorthWestX(), getNorthWestY());
     }
     
     /**
@@ -447,138 +702,128 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
      */
     public boolean checkCollisionNorthEast(final Entity entity)
     {
-        return entity.getRectangle().contains(getNorthEastX(), getNorthEastY());
+        return entity.containsPoint(getNorthEastX(), getNorthEastY());
     }
     
     /**
      * Check for collision with the level tiles
      * @param tiles The object containing all tiles in the level
-     * @return The tile the character has collision with, if no collision null is returned
+     * @return The cell the character has collision with, if no collision Tiles.NONE is returned
      */
-    public Tile checkCollisionEast(final Tiles tiles)
+    public int checkCollisionEast(final Tiles tiles)
     {
         //get the tile to the east of the character
-        Tile tile = tiles.getTile(getEastX(), getEastY());
+        final int cell = getContacts(tiles).getEast();
         
         //if there is a tile, then there is collision
-        if (tile != null && tile.isSolid())
+        if (cell != Tiles.NONE)
         {
             //correct coordinate
-            setX(tile.getX() - getWidth());
+            setX(tiles.getX(cell) - getWidth());
             
             //return collision tile
-            return tile;
+            return cell;
         }
         
         //no tile found
-        return null;
+        return Tiles.NONE;
     }
     
     /**
      * Check for collision with the level tiles
      * @param tiles The object containing all tiles in the level
-     * @return The tile the character has collision with, if no collision null is returned
+     * @return The cell the character has collision with, if no collision Tiles.NONE is returned
      */
-    public Tile checkCollisionNorthEast(final Tiles tiles)
+    public int checkCollisionNorthEast(final Tiles tiles)
     {
         //get the tile to the east of the character
-        Tile tile = tiles.getTile(getNorthEastX(), getNorthEastY());
+        final int cell = getContacts(tiles).getNorthEast();
         
         //if there is a tile, then there is collision
-        if (tile != null && tile.isSolid())
+        if (cell != Tiles.NONE)
         {
             //correct coordinate
-            setX(tile.getX() - getWidth());
+            setX(tiles.getX(cell) - getWidth());
             
             //return collision tile
-            return tile;
+            return cell;
         }
         
         //no tile found
-        return null;
+        return Tiles.NONE;
     }
     
     /**
      * Check for collision with the level tiles
      * @param tiles The object containing all tiles in the level
-     * @return The tile the character has collision with, if no collision null is returned
+     * @return The cell the character has collision with, if no collision Tiles.NONE is returned
      */
-    public Tile checkCollisionNorth(final Tiles tiles)
+    public int checkCollisionNorth(final Tiles tiles)
     {
-        final int range = (int)(getWidth() / 4);
+        //get the tile above the character's head
+        final int cell = getContacts(tiles).getNorth();
         
-        for (int x = -range; x <= range; x++)
+        //if there is a tile, then there is collision
+        if (cell != Tiles.NONE)
         {
-            //get the tile above the character's head
-            Tile tile = tiles.getTile(getNorthX() + x, getNorthY());
-
-            //if there is a tile, then there is collision
-            if (tile != null && tile.isSolid())
-            {
-                //place character right below tile
-                setY(tile.getY() + tile.getHeight());
-
-                //return collision tile
-                return tile;
-            }
+            //place character right below tile
+            setY(tiles.getY(cell) + Tile.HEIGHT);
+            
+            //return collision tile
+            return cell;
         }
         
         //no tile found
-        return null;
+        return Tiles.NONE;
     }
     
     
     /**
      * Check for collision with the level tiles
      * @param tiles The object containing all tiles in the level
-     * @return The tile the character has collision with, if no collision null is returned
+     * @return The cell the character has collision with, if no collision Tiles.NONE is returned
      */
-    public Tile checkCollisionNorthWest(final Tiles tiles)
+    public int checkCollisionNorthWest(final Tiles tiles)
     {
         //get the tile to the west of the character
-        Tile tile = tiles.getTile(getNorthWestX(), getNorthWestY());
+        final int cell = getContacts(tiles).getNorthWest();
         
         //if there is a tile, then there is collision
-        if (tile != null && tile.isSolid())
+        if (cell != Tiles.NONE)
         {
             //correct coordinate
-            setX(tile.getX() + tile.getWidth());
+            setX(tiles.getX(cell) + Tile.WIDTH);
             
             //return collision tile
-            return tile;
+            return cell;
         }
         
         //no tile found
-        return null;
+        return Tiles.NONE;
     }
     
     /**
      * Check for collision with the level tiles
      * @param tiles The object containing all tiles in the level
-     * @return The tile the character has collision with, if no collision null is returned
+     * @return The cell the character has collision with, if no collision Tiles.NONE is returned
      */
-    public Tile checkCollisionSouth(final Tiles tiles)
+    public int checkCollisionSouth(final Tiles tiles)
     {
-        final int range = (int)(getWidth() / 4);
+        //get the tile below the character's feet
+        final int cell = getContacts(tiles).getSouth();
         
-        for (int x = -range; x <= range; x++)
+        //if there is a tile, then there is collision
+        if (cell != Tiles.NONE)
         {
-            //get the tile below the character's feet
-            Tile tile = tiles.getTile(getSouthX() + x, getSouthY());
-
-            //if there is a tile, then there is collision
-            if (tile != null && tile.isSolid())
-            {
-                //place character right above tile
-                setY(tile.getY() - super.getHeight());
-
-                //return collision tile
-                return tile;
-            }
+            //place character right above tile
+            setY(tiles.getY(cell) - super.getHeight());
+            
+            //return collision tile
+            return cell;
         }
         
         //no tile found
-        return null;
+        return Tiles.NONE;
     }
     
     public void setJump(final boolean jump)
@@ -593,7 +838,66 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
      */
     public final boolean hasCollision(final Entity entity)
     {
-        return super.getRectangle().intersects(entity.getRectangle());
+        return overlaps(entity);
+    }
+    
+    /**
+     * Does the area of this entity overlap the specified area.<br>
+     * The check is done with the coordinates directly so no Rectangle objects are created.
+     * @param x x-coordinate of the area
+     * @param y y-coordinate of the area
+     * @param width The width of the area
+     * @param height The height of the area
+     * @return true if the areas overlap, false otherwise
+     */
+    public final boolean overlaps(final double x, final double y, final double width, final double height)
+    {
+        //an empty area can't overlap anything
+        if (getWidth() <= 0 || getHeight() <= 0 || width <= 0 || height <= 0)
+            return false;
+        
+        return (x < getX() + getWidth() && getX() < x + width && y < getY() + getHeight() && getY() < y + height);
+    }
+    
+    /**
+     * Does the area of this entity overlap the other entity
+     * @param entity Entity we want to check
+     * @return true if the areas overlap, false otherwise
+     */
+    public final boolean overlaps(final Entity entity)
+    {
+        return overlaps(entity.getX(), entity.getY(), entity.getWidth(), entity.getHeight());
+    }
+    
+    /**
+     * Does the area of this entity overlap the rectangle
+     * @param rectangle The area we want to check
+     * @return true if the areas overlap, false otherwise
+     */
+    public final boolean overlaps(final Rectangle rectangle)
+    {
+        return overlaps(rectangle.x, rectangle.y, rectangle.width, rectangle.height);
+    }
+    
+    /**
+     * Is the (x,y) coordinate inside the area of this entity
+     * @param x x-coordinate
+     * @param y y-coordinate
+     * @return true if the coordinate is inside, false otherwise
+     */
+    public final boolean containsPoint(final double x, final double y)
+    {
+        return (x >= getX() && y >= getY() && x < getX() + getWidth() && y < getY() + getHeight());
+    }
+    
+    /**
+     * Is the center of this entity inside the rectangle
+     * @param rectangle The area we want to check
+     * @return true if the center is inside, false otherwise
+     */
+    public final boolean isCenterInside(final Rectangle rectangle)
+    {
+        return rectangle.contains(getX() + (getWidth() / 2), getY() + (getHeight() / 2));
     }
     
     /**
@@ -603,7 +907,7 @@ public abstract class Entity extends Sprite implements Disposable, IAudio
      */
     public final boolean isCurrentAnimation(final Object object)
     {
-        return (super.getSpriteSheet().getCurrent() == object);
+        return (getCurrentAnimation() == object);
     }
     
     public void markDead()
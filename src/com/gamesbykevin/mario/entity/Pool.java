@@ -0,0 +1,74 @@
+package com.gamesbykevin.mario.entity;
+
+import com.gamesbykevin.framework.resources.Disposable;
+
+/**
+ * A pool of entities no longer in play so they can be used again instead of creating new ones.<br>
+ * The pool only keeps up to its capacity, any entities released after that are left for the garbage collector.<br>
+ * The enemies can throw projectiles on multiple threads, so the pool can be used by more than 1 thread at a time.
+ * @author GOD
+ * @param <T> The type of entity
+ */
+public final class Pool<T extends Entity> implements Disposable
+{
+    //the default number of entities we keep
+    private static final int DEFAULT_CAPACITY = 20;
+    
+    //the entities available for use
+    private final Entities<T> available;
+    
+    //the most entities we will keep
+    private final int capacity;
+    
+    public Pool()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    public Pool(final int capacity)
+    {
+        this.capacity = capacity;
+        this.available = new Entities<>();
+    }
+    
+    /**
+     * Get the number of entities available
+     * @return The number of entities in the pool
+     */
+    public synchronized int size()
+    {
+        return available.size();
+    }
+    
+    /**
+     * Take an entity from the pool
+     * @return The entity, if the pool is empty null is returned
+     */
+    public synchronized T obtain()
+    {
+        if (available.isEmpty())
+            return null;
+        
+        return available.remove(available.size() - 1);
+    }
+    
+    /**
+     * Return the entity to the pool so it can be used again
+     * @param entity The entity no longer in play
+     * @return true if the entity was added to the pool, false if the pool is full
+     */
+    public synchronized boolean release(final T entity)
+    {
+        if (available.size() >= capacity)
+            return false;
+        
+        available.add(entity);
+        return true;
+    }
+    
+    @Override
+    public synchronized void dispose()
+    {
+        available.dispose();
+    }
+}
\ No newline at end of file
@@ -512,7 +512,7 @@ public final class Matching extends Game implements Disposable, IElement, Displa
     public void render(final Graphics graphics)
     {
         //draw background
-        super.draw(graphics);
+        super.drawAnimation(graphics);
         
         for (int row = 0; row < ROWS; row++)
         {
@@ -529,7 +529,7 @@ public final class Matching extends Game implements Disposable, IElement, Displa
                 tile.setLocation(x - (tile.getWidth() / 2), y - (tile.getHeight() / 2));
                 
                 //draw the tile
-                tile.draw(graphics, getImage());
+                tile.drawAnimation(graphics, getImage());
                 
                 //if this is the location where the player is
                 if (playerCol == col && playerRow == row)
@@ -541,7 +541,7 @@ public final class Matching extends Game implements Disposable, IElement, Displa
                     tile.setLocation(x - (tile.getWidth() / 2), y - (tile.getHeight() / 2));
                     
                     //draw the tile
-                    tile.draw(graphics, getImage());
+                    tile.drawAnimation(graphics, getImage());
                 }
             }
         }
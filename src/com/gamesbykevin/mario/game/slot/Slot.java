@@ -609,7 +609,7 @@ public final class Slot extends Game implements Disposable, IElement, Displayabl
     public void render(final Graphics graphics)
     {
         //draw background
-        super.draw(graphics);
+        super.drawAnimation(graphics);
         
         for (int i = 0; i < tiles.size(); i++)
         {
@@ -627,15 +627,15 @@ public final class Slot extends Game implements Disposable, IElement, Displayabl
                     switch (getReward())
                     {
                         case Mushroom:
-                            reward1up.draw(graphics, getImage());
+                            reward1up.drawAnimation(graphics, getImage());
                             break;
 
                         case Flower:
-                            reward3up.draw(graphics, getImage());
+                            reward3up.drawAnimation(graphics, getImage());
                             break;
 
                         case Star:
-                            reward5up.draw(graphics, getImage());
+                            reward5up.drawAnimation(graphics, getImage());
                             break;
 
                         default:
@@ -657,15 +657,15 @@ public final class Slot extends Game implements Disposable, IElement, Displayabl
         
         //draw west
         tile.setX(x - tile.getWidth());
-        tile.draw(graphics, getImage());
+        tile.drawAnimation(graphics, getImage());
         
         //draw center
         tile.setX(x);
-        tile.draw(graphics, getImage());
+        tile.drawAnimation(graphics, getImage());
         
         //draw east
         tile.setX(x + tile.getWidth());
-        tile.draw(graphics, getImage());
+        tile.drawAnimation(graphics, getImage());
         
         //restore location
         tile.setX(x);
@@ -7,7 +7,10 @@ import com.gamesbykevin.mario.character.Character;
 import com.gamesbykevin.mario.effects.Effects;
 import com.gamesbykevin.mario.engine.Engine;
 import com.gamesbykevin.mario.resources.GameAudio;
+import com.gamesbykevin.mario.resources.ImageHelper;
+import com.gamesbykevin.mario.resources.SpriteAtlas;
 import com.gamesbykevin.mario.shared.IElement;
+import com.gamesbykevin.mario.world.level.Camera;
 import com.gamesbykevin.mario.world.level.Level;
 import com.gamesbykevin.mario.world.level.tiles.Tile;
 import com.gamesbykevin.mario.world.level.tiles.Tiles;
@@ -20,6 +23,7 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Rectangle;
+import java.awt.Transparency;
 import java.util.Random;
 
 public abstract class Hero extends Character implements IElement, Disposable
@@ -131,12 +135,14 @@ public abstract class Hero extends Character implements IElement, Disposable
         
         if (invincibleImage != null)
         {
+            SpriteAtlas.remove(invincibleImage);
             invincibleImage.flush();
             invincibleImage = null;
         }
         
         if (transparentImage != null)
         {
+            SpriteAtlas.remove(transparentImage);
             transparentImage.flush();
             transparentImage = null;
         }
@@ -150,7 +156,7 @@ public abstract class Hero extends Character implements IElement, Disposable
         try
         {
             //create new image
-            this.invincibleImage = new BufferedImage(getImage().getWidth(null), getImage().getHeight(null), BufferedImage.TYPE_INT_ARGB);
+            this.invincibleImage = ImageHelper.createImage(getImage().getWidth(null), getImage().getHeight(null), Transparency.TRANSLUCENT);
             
             //get graphics object to write
             Graphics2D g2d = this.invincibleImage.createGraphics();
@@ -167,7 +173,7 @@ public abstract class Hero extends Character implements IElement, Disposable
             }
             
             //create new image
-            this.transparentImage = new BufferedImage(getImage().getWidth(null), getImage().getHeight(null), BufferedImage.TYPE_INT_ARGB);
+            this.transparentImage = ImageHelper.createImage(getImage().getWidth(null), getImage().getHeight(null), Transparency.TRANSLUCENT);
             
             //get the graphics object to write
             g2d = this.transparentImage.createGraphics();
@@ -177,6 +183,10 @@ public abstract class Hero extends Character implements IElement, Disposable
             
             //write original spritesheet to this image
             g2d.drawImage(getImage(), 0, 0, null);
+            
+            //the hero faces both ways while invincible or hurt
+            SpriteAtlas.create(invincibleImage);
+            SpriteAtlas.create(transparentImage);
         }
         catch(Exception e)
         {
@@ -219,7 +229,7 @@ public abstract class Hero extends Character implements IElement, Disposable
         
         //if not fire, remove any existing projectiles
         if (!hasFire())
-            getProjectiles().clear();
+            removeProjectiles();
     }
     
     public boolean hasFire()
@@ -382,6 +392,12 @@ public abstract class Hero extends Character implements IElement, Disposable
         return this.coin;
     }
     
+    @Override
+    public boolean usesTileCollision()
+    {
+        return true;
+    }
+    
     @Override
     public void update(final Engine engine)
     {
@@ -513,7 +529,7 @@ public abstract class Hero extends Character implements IElement, Disposable
         }
         
         //check if we are to scroll the level
-        checkScroll(level, engine.getManager().getWindow());
+        checkScroll(level.getCamera());
         
         //update the projectiles
         updateProjectiles(engine);
@@ -537,7 +553,7 @@ public abstract class Hero extends Character implements IElement, Disposable
         world.setStart(this);
         
         //remove any existing projectiles the hero may have
-        getProjectiles().clear();
+        removeProjectiles();
     }
     
     /**
@@ -563,7 +579,7 @@ public abstract class Hero extends Character implements IElement, Disposable
         this.setVictory(false);
         this.setAnimation(AnimationHelper.getDefaultAnimation(this), true);
         this.resetVelocity();
-        super.getProjectiles().clear();
+        super.removeProjectiles();
     }
     
     private void checkLevelCollision(final Engine engine)
@@ -576,18 +592,21 @@ public abstract class Hero extends Character implements IElement, Disposable
         //get the tiles in the level
         Tiles tiles = level.getTiles();
         
+        //make sure we did not move through a tile
+        checkCollisionSwept(tiles);
+        
         if (hasVelocityY())
         {
-            Tile south = checkCollisionSouth(tiles);
+            int south = checkCollisionSouth(tiles);
 
             //if we hit a tile at our feet, make sure to stop
-            if (south != null)
+            if (south != Tiles.NONE)
             {
                 if (super.isJumping())
                     super.stopJumping();
 
                 //we hit the goal so the level is complete
-                if (south.getType() == Tiles.Type.Goal)
+                if (tiles.getType(south) == Tiles.Type.Goal)
                 {
                     //stop all sound
                     engine.getResources().stopAllSound();
@@ -596,7 +615,7 @@ public abstract class Hero extends Character implements IElement, Disposable
                     engine.getResources().playGameAudio(GameAudio.getLevelCompleteMusic(random));
                     
                     //set as complete
-                    tiles.add(Tiles.Type.GoalComplete, south.getCol(), south.getRow(), south.getX(), south.getY());
+                    tiles.add(Tiles.Type.GoalComplete, tiles.getColumn(south), tiles.getRow(south));
 
                     //mark level as complete
                     level.markComplete();
@@ -604,9 +623,6 @@ public abstract class Hero extends Character implements IElement, Disposable
                     //stop the level timer
                     level.pauseTimer();
 
-                    //don't scroll the level
-                    level.setScrollX(SPEED_NONE);
-
                     //stop moving
                     resetVelocity();
 
@@ -619,21 +635,21 @@ public abstract class Hero extends Character implements IElement, Disposable
 
                 if (!isInvincible())
                 {
-                    if (south.hasDeath())
+                    if (tiles.hasDeath(south))
                     {
-                        switch (south.getType())
+                        switch (tiles.getType(south))
                         {
                             case Lava:
                             case Water1:
                             case Water2:
                                 markDead();
-                                setY(south.getY() - Tile.HEIGHT);
+                                setY(tiles.getY(south) - Tile.HEIGHT);
                                 break;
                         }
                     }
-                    else if (south.hasDamage())
+                    else if (tiles.hasDamage(south))
                     {
-                        switch (south.getType())
+                        switch (tiles.getType(south))
                         {
                             case RotatingGear:
                             case RotatingGear2:
@@ -649,17 +665,17 @@ public abstract class Hero extends Character implements IElement, Disposable
         
         if (getVelocityX() < 0)
         {
-            Tile west = checkCollisionWest(tiles);
+            int west = checkCollisionWest(tiles);
 
-            if (west != null)
+            if (west != Tiles.NONE)
             {
                 setVelocityX(SPEED_NONE);
 
                 if (!isInvincible())
                 {
-                    if (west.hasDamage())
+                    if (tiles.hasDamage(west))
                     {
-                        switch (west.getType())
+                        switch (tiles.getType(west))
                         {
                             case RotatingGear:
                             case RotatingGear2:
@@ -670,24 +686,24 @@ public abstract class Hero extends Character implements IElement, Disposable
                 }
             }
 
-            if (checkCollisionNorthWest(tiles) != null)
+            if (checkCollisionNorthWest(tiles) != Tiles.NONE)
                 setVelocityX(SPEED_NONE);
         }
         
         if (getVelocityX() > 0)
         {
-            Tile east = checkCollisionEast(tiles);
+            int east = checkCollisionEast(tiles);
 
             //if collision with east
-            if (east != null)
+            if (east != Tiles.NONE)
             {
                 setVelocityX(SPEED_NONE);
 
                 if (!isInvincible())
                 {
-                    if (east.hasDamage())
+                    if (tiles.hasDamage(east))
                     {
-                        switch (east.getType())
+                        switch (tiles.getType(east))
                         {
                             case RotatingGear:
                             case RotatingGear2:
@@ -698,14 +714,14 @@ public abstract class Hero extends Character implements IElement, Disposable
                 }
             }
 
-            if (checkCollisionNorthEast(tiles) != null)
+            if (checkCollisionNorthEast(tiles) != Tiles.NONE)
                 setVelocityX(SPEED_NONE);
         }
         
         //check for collision to the north first
-        Tile north = checkCollisionNorth(tiles);
+        int north = checkCollisionNorth(tiles);
         
-        if (north != null)
+        if (north != Tiles.NONE)
         {
             //if moving north check if the tile will hurt
             if (getVelocityY() < 0)
@@ -714,7 +730,7 @@ public abstract class Hero extends Character implements IElement, Disposable
                 setVelocityY(VELOCITY_DECREASE);
 
                 //if the block can cause death
-                if (north.hasDeath())
+                if (tiles.hasDeath(north))
                 {
                     if (!isHurt())
                     {
@@ -722,7 +738,7 @@ public abstract class Hero extends Character implements IElement, Disposable
                         markDead();
                     }
                 }
-                else if (north.hasDamage())
+                else if (tiles.hasDamage(north))
                 {
                     if (!isHurt())
                     {
@@ -732,7 +748,7 @@ public abstract class Hero extends Character implements IElement, Disposable
                 }
             }
 
-            switch (north.getType())
+            switch (tiles.getType(north))
             {
                 case QuestionBlock:
                     level.getPowerUps().managePowerupBlock(random, north, level, this);
@@ -741,7 +757,7 @@ public abstract class Hero extends Character implements IElement, Disposable
                 case BreakableBrick:
                     
                     //at random choose if a hidden power up is here
-                    if (north.isPowerup())
+                    if (tiles.isPowerup(north))
                     {
                         level.getPowerUps().managePowerupBlock(random, north, level, this);
                     }
@@ -754,10 +770,10 @@ public abstract class Hero extends Character implements IElement, Disposable
                             super.setAudioKey((random.nextBoolean()) ? GameAudio.Keys.SfxLevelBreakableBrick1 : GameAudio.Keys.SfxLevelBreakableBrick2);
                             
                             //remove tile
-                            tiles.remove((int)north.getCol(), (int)north.getRow());
+                            tiles.remove(tiles.getColumn(north), tiles.getRow(north));
 
                             //need to add animation effect of brick breaking here
-                            level.getEffects().add(north, Effects.Type.BreakBrick);
+                            level.getEffects().add(tiles.getX(north), tiles.getY(north), Effects.Type.BreakBrick);
                         }
                         else
                         {
@@ -838,33 +854,35 @@ public abstract class Hero extends Character implements IElement, Disposable
     }
     
     /**
-     * Determine if we need to scroll the level tiles/background
-     * @param level 
+     * Determine if we need to move the camera so the hero stays on screen
+     * @param camera The camera of the current level
      */
-    private void checkScroll(final Level level, final Rectangle window)
+    private void checkScroll(final Camera camera)
     {
+        final Rectangle window = camera.getWindow();
+        
         final double westX  = window.x + (window.width * SCROLL_WEST_RATIO);
         final double eastX  = window.x + (window.width * SCROLL_EAST_RATIO);
         
+        //the location of the hero on the screen
+        final double screenX = getX() - camera.getX();
+        
         //determine where we want to scroll (if any)
-        final boolean scrollWest = (getX() < westX) && (getVelocityX() < 0);
-        final boolean scrollEast = (getX() > eastX) && (getVelocityX() > 0);
+        final boolean scrollWest = (screenX < westX) && (getVelocityX() < 0);
+        final boolean scrollEast = (screenX > eastX) && (getVelocityX() > 0);
         
         if (scrollWest)
         {
-            setX(westX);
-            level.setScrollX((level.getTiles().canScrollWest(window.x)) ? -getVelocityX() : Character.SPEED_NONE);
+            //move the camera the distance the hero went past the scroll line
+            camera.setX(camera.getX() + (screenX - westX));
+            setX(camera.getX() + westX);
         }
         
         if (scrollEast)
         {
-            setX(eastX);
-            level.setScrollX((level.getTiles().canScrollEast(window.x + window.width - Tile.WIDTH)) ? -getVelocityX() : Character.SPEED_NONE);
-        }
-        
-        if (!hasVelocityX() || isIdle())
-        {
-            level.setScrollX(Character.SPEED_NONE);
+            //move the camera the distance the hero went past the scroll line
+            camera.setX(camera.getX() + (screenX - eastX));
+            setX(camera.getX() + eastX);
         }
     }
     
@@ -945,25 +963,25 @@ public abstract class Hero extends Character implements IElement, Disposable
                 if (switchImage)
                 {
                     //draw same image with bitmask applied
-                    super.draw(graphics, invincibleImage);
+                    super.drawAnimation(graphics, invincibleImage);
                 }
                 else
                 {
                     //draw default image
-                    super.draw(graphics);
+                    super.drawAnimation(graphics);
                 }
             }
             else if (isDead())
             {
-                super.draw(graphics);
+                super.drawAnimation(graphics);
             }
             else if (isHurt())
             {
-                super.draw(graphics, transparentImage);
+                super.drawAnimation(graphics, transparentImage);
             }
             else
             {
-                super.draw(graphics);
+                super.drawAnimation(graphics);
             }
 
             //draw projectiles
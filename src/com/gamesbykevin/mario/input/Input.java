@@ -26,6 +26,8 @@ public final class Input
     public static final int KEY_JUMP       = KeyEvent.VK_A;
     //public static final int KEY_RUN        = KeyEvent.VK_S;
     public static final int KEY_FIREBALL   = KeyEvent.VK_S;
+    public static final int KEY_PROFILER   = KeyEvent.VK_F3;
+    public static final int KEY_EXPORT     = KeyEvent.VK_F4;
     
     //time to wait until level appears
     private static final long ENTER_LEVEL_DELAY = Timers.toNanoSeconds(1250L);
@@ -50,6 +52,20 @@ public final class Input
         //get keyboard input
         final Keyboard keyboard = engine.getKeyboard();
         
+        //show/hide the profiler overlay
+        if (keyboard.hasKeyReleased(KEY_PROFILER))
+        {
+            engine.getMain().getProfiler().setDisplayed(!engine.getMain().getProfiler().isDisplayed());
+            keyboard.removeKeyReleased(KEY_PROFILER);
+        }
+        
+        //write the profiler statistics to file
+        if (keyboard.hasKeyReleased(KEY_EXPORT))
+        {
+            engine.getMain().getProfiler().export();
+            keyboard.removeKeyReleased(KEY_EXPORT);
+        }
+        
         //if the map is displayed we will move the hero accordingly
         if (engine.getManager().getWorld().getMap().isDisplayed())
         {
@@ -344,7 +360,7 @@ public final class Input
                 mario.setAttack(false);
                 
                 //add fireball
-                mario.addProjectile(new HeroFireball());
+                mario.addProjectile(HeroFireball.create());
                 
                 //set sound effect to play
                 mario.setAudioKey(GameAudio.Keys.SfxLevelHeroFireball);
@@ -1,11 +1,14 @@
 package com.gamesbykevin.mario.main;
 
 import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.awt.image.VolatileImage;
 import javax.swing.*;
 
 import com.gamesbykevin.framework.resources.Disposable;
 
 import com.gamesbykevin.mario.engine.Engine;
+import com.gamesbykevin.mario.profiler.Profiler;
 import com.gamesbykevin.mario.shared.Shared;
 
 public final class Main extends Thread implements Disposable
@@ -31,6 +34,18 @@ public final class Main extends Thread implements Disposable
     //how many nanoseconds are there in one second
     private static final long NANO_SECONDS_PER_SECOND = 1000000000;
     
+    //how many nanoseconds are there in one millisecond
+    private static final long NANO_SECONDS_PER_MILLISECOND = 1000000;
+    
+    //the most updates we will catch up on before rendering, so we don't fall further behind
+    private static final int MAX_UPDATES_PER_FRAME = 5;
+    
+    //how many renders until the accelerated images are counted again
+    private static final int ACCELERATION_DELAY = 300;
+    
+    //the number of renders since the accelerated images were counted
+    private int renders = 0;
+    
     //need double for accuracy
     private double nanoSecondsPerUpdate;
     
@@ -40,6 +55,18 @@ public final class Main extends Thread implements Disposable
     //reference to our panel
     private JPanel panel;
     
+    //if set the game is drawn here with page flipping instead of on the panel
+    private Canvas canvas;
+    
+    //the buffers of the canvas that are flipped to display each frame
+    private BufferStrategy strategy;
+    
+    //the number of times the original image is scaled on the canvas
+    private int scale = 1;
+    
+    //class used to locate the resources when there is no applet/panel
+    private Class<?> source;
+    
     //cache this graphics object so we aren't constantly creating it
     private Graphics graphics;
     
@@ -49,6 +76,12 @@ public final class Main extends Thread implements Disposable
     //time used to track updates per second
     private long time = System.nanoTime();
     
+    //how far we are between the last update and the next (0 - 1)
+    private double interpolation = 0;
+    
+    //keeps track of how long each part of the game takes
+    private Profiler profiler;
+    
     public Main(final int ups, final JApplet applet)
     {
         this(ups);
@@ -63,6 +96,36 @@ public final class Main extends Thread implements Disposable
         this.panel = panel;
     }
     
+    /**
+     * Create main where the game is drawn on a canvas using page flipping
+     * @param ups Engine updates per second
+     * @param panel The panel containing the canvas
+     * @param canvas The canvas where the game is drawn, input is also detected here
+     */
+    public Main(final int ups, final JPanel panel, final Canvas canvas)
+    {
+        this(ups, panel);
+        
+        this.canvas = canvas;
+        
+        //we draw on the canvas ourselves
+        this.canvas.setIgnoreRepaint(true);
+    }
+    
+    /**
+     * Create main without an applet/panel so the game logic can run without a display.<br>
+     * Nothing is rendered and the engine needs to be updated by the caller.
+     * 
+     * @param ups Engine updates per second
+     * @param source Class in root directory of project so we know how to access resources
+     */
+    public Main(final int ups, final Class<?> source)
+    {
+        this(ups);
+        
+        this.source = source;
+    }
+    
     /**
      * Main class that runs the game engine
      * 
@@ -76,6 +139,10 @@ public final class Main extends Thread implements Disposable
 
         //duration of each update in nanoseconds
         this.nanoSecondsPerUpdate = NANO_SECONDS_PER_SECOND / ups;
+        
+        //create the profiler and display the overlay if debugging
+        this.profiler = new Profiler();
+        this.profiler.setDisplayed(Shared.DEBUG);
     }
     
     /**
@@ -102,12 +169,26 @@ public final class Main extends Thread implements Disposable
             graphics = null;
         }
         
+        if (strategy != null)
+        {
+            strategy.dispose();
+            strategy = null;
+        }
+        
+        canvas = null;
+        
         if (engine != null)
         {
             engine.dispose();
             engine = null;
         }
         
+        if (profiler != null)
+        {
+            profiler.dispose();
+            profiler = null;
+        }
+        
         if (applet != null)
         {
             applet.destroy();
@@ -120,6 +201,7 @@ public final class Main extends Thread implements Disposable
             panel = null;
         }
         
+        source = null;
         originalSizeWindow = null;
         fullSizeWindow = null;
         currentWindow = null;
@@ -139,7 +221,13 @@ public final class Main extends Thread implements Disposable
             applet.addMouseMotionListener(engine);
             applet.addMouseListener(engine);
         }
-        else
+        else if (canvas != null)
+        {
+            canvas.addKeyListener(engine);
+            canvas.addMouseMotionListener(engine);
+            canvas.addMouseListener(engine);
+        }
+        else if (panel != null)
         {
             panel.addKeyListener(engine);
             panel.addMouseMotionListener(engine);
@@ -175,28 +263,57 @@ public final class Main extends Thread implements Disposable
                 //set the current time as the last run
                 previous = now;
                 
+                //how many updates have been done this frame
+                int count = 0;
+                
                 while(delta >= 1)
                 {
                     //update game
                     engine.update(this);
-
-                    //render image
-                    renderImage();
-                    
-                    //draw image
-                    drawScreen();
                     
                     //add to our counter
                     updates++;
+                    count++;
                     
                     //deduct from delta
                     delta--;
                     
+                    //if we are too far behind skip the remaining updates instead of trying to catch up
+                    if (count >= MAX_UPDATES_PER_FRAME)
+                    {
+                        delta = 0;
+                        break;
+                    }
+                }
+                
+                //only render if the game has been updated
+                if (count > 0)
+                {
+                    //store how far we are to the next update
+                    interpolation = delta;
+                    
+                    //render image
+                    profiler.start(Profiler.Phase.Render);
+                    renderImage();
+                    profiler.stop(Profiler.Phase.Render);
+                    
+                    //draw image
+                    profiler.start(Profiler.Phase.Blit);
+                    drawScreen();
+                    profiler.stop(Profiler.Phase.Blit);
+                    
+                    //check if it is time to count the accelerated images
+                    checkAcceleration();
+                    
                     //check if it is time to display ups
                     checkCount();
                 }
                 
-                Thread.sleep(0, 10);
+                //sleep until the next update is due
+                final long remaining = (long)((1 - delta) * nanoSecondsPerUpdate) - (System.nanoTime() - now);
+                
+                if (remaining > 0)
+                    Thread.sleep(remaining / NANO_SECONDS_PER_MILLISECOND, (int)(remaining % NANO_SECONDS_PER_MILLISECOND));
             }
             catch(Exception e)
             {
@@ -211,23 +328,50 @@ public final class Main extends Thread implements Disposable
     
     private void checkCount()
     {
-        //if we are debugging and 1 second passed
-        if (Shared.DEBUG)
+        //if 1 second passed
+        if (System.nanoTime() - time >= NANO_SECONDS_PER_SECOND)
         {
-            if (System.nanoTime() - time >= NANO_SECONDS_PER_SECOND)
-            {
-                //add 1 second to timer
-                time += NANO_SECONDS_PER_SECOND;
+            //add 1 second to timer
+            time += NANO_SECONDS_PER_SECOND;
 
-                //display updates per second
-                System.out.println("UPS = " + updates);
+            //store updates per second for the profiler
+            profiler.setUps(updates);
 
-                //reset update counter
-                updates = 0;
-            }
+            //reset update counter
+            updates = 0;
         }
     }
     
+    /**
+     * Count the game images cached on the video card for the profiler.<br>
+     * The images are only cached after they have been drawn a few times, so they are counted once enough frames are rendered.
+     */
+    private void checkAcceleration()
+    {
+        renders++;
+        
+        if (renders < ACCELERATION_DELAY)
+            return;
+        
+        //reset counter
+        renders = 0;
+        
+        //the images aren't converted until the resources are loaded
+        if (engine.getResources() == null || engine.getResources().isLoading())
+            return;
+        
+        profiler.setAccelerated(engine.getResources().getAcceleratedCount(), engine.getResources().getCompatibleCount());
+    }
+    
+    /**
+     * Get the object that keeps track of how long each part of the game takes
+     * @return Profiler
+     */
+    public Profiler getProfiler()
+    {
+        return this.profiler;
+    }
+    
     public JApplet getApplet()
     {
         return applet;
@@ -246,7 +390,16 @@ public final class Main extends Thread implements Disposable
         if (panel != null)
             return panel.getClass();
         
-        return null;
+        return source;
+    }
+    
+    /**
+     * Is there no applet/panel to display the game
+     * @return true if the game logic is running without a display, false otherwise
+     */
+    public boolean isHeadless()
+    {
+        return (applet == null && panel == null);
     }
     
     /**
@@ -258,6 +411,11 @@ public final class Main extends Thread implements Disposable
         {
             bufferedImage = applet.createImage(originalSizeWindow.width, originalSizeWindow.height);
         }
+        else if (canvas != null)
+        {
+            //an accelerated image so drawing it to the canvas stays on the video card
+            bufferedImage = canvas.createVolatileImage(originalSizeWindow.width, originalSizeWindow.height);
+        }
         else
         {
             bufferedImage = panel.createImage(originalSizeWindow.width, originalSizeWindow.height);
@@ -282,6 +440,10 @@ public final class Main extends Thread implements Disposable
         {
             fullSizeWindow = new Rectangle(0, 0, applet.getWidth(), applet.getHeight());
         }
+        else if (canvas != null)
+        {
+            fullSizeWindow = new Rectangle(0, 0, canvas.getWidth(), canvas.getHeight());
+        }
         else
         {
             fullSizeWindow = new Rectangle(0, 0, panel.getWidth(), panel.getHeight());
@@ -290,6 +452,17 @@ public final class Main extends Thread implements Disposable
         //set the current window size
         currentWindow = new Rectangle(fullSizeWindow);
         
+        if (canvas != null)
+        {
+            //scale by a whole number so every pixel is the same size, and center the image
+            scale = Math.max(1, Math.min(fullSizeWindow.width / originalSizeWindow.width, fullSizeWindow.height / originalSizeWindow.height));
+            
+            currentWindow.width = originalSizeWindow.width * scale;
+            currentWindow.height = originalSizeWindow.height * scale;
+            currentWindow.x = (fullSizeWindow.width - currentWindow.width) / 2;
+            currentWindow.y = (fullSizeWindow.height - currentWindow.height) / 2;
+        }
+        
         //since full screen switched on/off create a new graphics object
         createGraphicsObject();
     }
@@ -303,6 +476,16 @@ public final class Main extends Thread implements Disposable
         return (long)nanoSecondsPerUpdate;
     }
     
+    /**
+     * Get how far we are between the last update and the next update.<br>
+     * This can be used to smooth movement when rendering.
+     * @return A value from 0 to 1, where 0 is the time of the last update
+     */
+    public double getInterpolation()
+    {
+        return this.interpolation;
+    }
+    
     /**
      * Writes all game/menu elements in our 
      * engine to our single bufferedImage.
@@ -313,6 +496,10 @@ public final class Main extends Thread implements Disposable
     {
         if (bufferedImage != null)
         {
+            //make sure the accelerated image can still be drawn on
+            if (bufferedImage instanceof VolatileImage)
+                validateVolatileImage();
+            
             if (bufferedImageGraphics == null)
                 bufferedImageGraphics = bufferedImage.getGraphics();
             
@@ -329,6 +516,40 @@ public final class Main extends Thread implements Disposable
         }
     }
     
+    /**
+     * Make sure the accelerated image is ready to be drawn on.<br>
+     * If the video card lost the image, or the display changed, a new graphics object is needed.
+     */
+    private void validateVolatileImage()
+    {
+        final VolatileImage image = (VolatileImage)bufferedImage;
+        
+        switch (image.validate(canvas.getGraphicsConfiguration()))
+        {
+            case VolatileImage.IMAGE_INCOMPATIBLE:
+                //the display changed so create the image again
+                image.flush();
+                bufferedImage = canvas.createVolatileImage(originalSizeWindow.width, originalSizeWindow.height);
+                
+                //the graphics object belongs to the previous image
+                if (bufferedImageGraphics != null)
+                {
+                    bufferedImageGraphics.dispose();
+                    bufferedImageGraphics = null;
+                }
+                break;
+                
+            case VolatileImage.IMAGE_RESTORED:
+                //the image was restored, everything is drawn again this frame
+                if (bufferedImageGraphics != null)
+                {
+                    bufferedImageGraphics.dispose();
+                    bufferedImageGraphics = null;
+                }
+                break;
+        }
+    }
+    
     /**
      * Does the applet have focus, if this is a JPanel it will always return true
      * @return boolean
@@ -367,6 +588,13 @@ public final class Main extends Thread implements Disposable
         if (bufferedImage == null)
             return;
         
+        //the canvas is drawn with page flipping
+        if (canvas != null)
+        {
+            drawCanvas();
+            return;
+        }
+        
         //cache graphics object to save resources
         if (graphics == null)
             createGraphicsObject();
@@ -397,4 +625,67 @@ public final class Main extends Thread implements Disposable
             e.printStackTrace();
         }
     }
+    
+    /**
+     * Draw the rendered image to the back buffer of the canvas, then flip it to the screen.<br>
+     * If the video card loses the buffers while drawing, the frame is drawn again.
+     */
+    private void drawCanvas()
+    {
+        //the canvas has to be on screen before the buffers can be created
+        if (!canvas.isDisplayable())
+            return;
+        
+        //the image was lost since it was rendered, the next frame will render it again
+        if (bufferedImage instanceof VolatileImage && ((VolatileImage)bufferedImage).contentsLost())
+            return;
+        
+        if (strategy == null)
+        {
+            //use 2 buffers, one displayed while the other is drawn
+            canvas.createBufferStrategy(2);
+            strategy = canvas.getBufferStrategy();
+        }
+        
+        //make sure current window dimensions are set
+        if (currentWindow == null || fullSizeWindow.width != canvas.getWidth() || fullSizeWindow.height != canvas.getHeight())
+            setFullScreen();
+        
+        try
+        {
+            do
+            {
+                do
+                {
+                    final Graphics drawGraphics = strategy.getDrawGraphics();
+                    
+                    try
+                    {
+                        //fill the area around the image
+                        drawGraphics.setColor(Color.BLACK);
+                        drawGraphics.fillRect(0, 0, fullSizeWindow.width, fullSizeWindow.height);
+                        
+                        //draw our rendered image scaled at the center
+                        drawGraphics.drawImage(bufferedImage, currentWindow.x, currentWindow.y, currentWindow.width, currentWindow.height, null);
+                    }
+                    finally
+                    {
+                        drawGraphics.dispose();
+                    }
+                }
+                while (strategy.contentsRestored());
+                
+                //display the buffer
+                strategy.show();
+            }
+            while (strategy.contentsLost());
+            
+            //make sure the frame is sent to the display now
+            Toolkit.getDefaultToolkit().sync();
+        }
+        catch(Exception e)
+        {
+            e.printStackTrace();
+        }
+    }
 }
\ No newline at end of file
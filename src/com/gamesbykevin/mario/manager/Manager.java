@@ -8,7 +8,9 @@ import com.gamesbykevin.mario.enemies.Enemies;
 import com.gamesbykevin.mario.engine.Engine;
 import com.gamesbykevin.mario.heroes.*;
 import com.gamesbykevin.mario.input.Input;
+import com.gamesbykevin.mario.profiler.Profiler;
 import com.gamesbykevin.mario.world.World;
+import com.gamesbykevin.mario.world.level.Camera;
 import com.gamesbykevin.mario.world.level.hud.Hud;
 import com.gamesbykevin.mario.menu.CustomMenu;
 import com.gamesbykevin.mario.menu.CustomMenu.*;
@@ -44,6 +46,9 @@ public final class Manager implements IManager
     //manage keyboard input
     private Input input;
     
+    //keeps track of how long each part of the game takes
+    private Profiler profiler;
+    
     /**
      * Constructor for Manager, this is the point where we load any menu option configurations
      * @param engine Engine for our game that contains all objects needed
@@ -51,14 +56,29 @@ public final class Manager implements IManager
      */
     public Manager(final Engine engine) throws Exception
     {
-        //determine if sound is enabled
-        final boolean enabled = (Toggle.values()[engine.getMenu().getOptionSelectionIndex(LayerKey.OptionsInGame, OptionKey.Sound)] == Toggle.Off);
-
+        this(
+            engine, 
+            Toggle.values()[engine.getMenu().getOptionSelectionIndex(LayerKey.OptionsInGame, OptionKey.Sound)] == Toggle.Off, 
+            getLives(engine.getMenu().getOptionSelectionIndex(CustomMenu.LayerKey.Options, CustomMenu.OptionKey.Lives)));
+    }
+    
+    /**
+     * Constructor for Manager with the options specified instead of read from the menu
+     * @param engine Engine for our game that contains all objects needed
+     * @param enabled Is the audio enabled
+     * @param lives The number of lives the hero starts with
+     * @throws Exception 
+     */
+    public Manager(final Engine engine, final boolean enabled, final int lives) throws Exception
+    {
         //set the audio depending on menu setting
         engine.getResources().setAudioEnabled(enabled);
         
         //set the game window where game play will occur
         setWindow(engine.getMain().getScreen());
+        
+        //store the profiler so the overlay can be drawn
+        this.profiler = engine.getMain().getProfiler();
 
         //create new world
         this.world = new World();
@@ -72,25 +92,33 @@ public final class Manager implements IManager
         this.mario.setGameOverImage(engine.getResources().getGameImage(GameImages.Keys.GameOverScreen));
         this.mario.createMiscImages();
         this.mario.setDimensions();
-
+        
+        //set the number of lives
+        this.mario.setLives(lives);
+    }
+    
+    /**
+     * Get the number of lives for the menu option selected
+     * @param index The index of the lives option selected
+     * @return The number of lives the hero starts with
+     */
+    private static int getLives(final int index)
+    {
         //check the number of lives set
-        switch (engine.getMenu().getOptionSelectionIndex(CustomMenu.LayerKey.Options, CustomMenu.OptionKey.Lives))
+        switch (index)
         {
-            case 0:
-                mario.setLives(5);
-                break;
-                
             case 1:
-                mario.setLives(10);
-                break;
+                return 10;
                 
             case 2:
-                mario.setLives(33);
-                break;
+                return 33;
                 
             case 3:
-                mario.setLives(99);
-                break;
+                return 99;
+                
+            case 0:
+            default:
+                return 5;
         }
     }
     
@@ -140,6 +168,8 @@ public final class Manager implements IManager
         if (input != null)
             input = null;
         
+        profiler = null;
+        
         if (mario != null)
         {
             mario.dispose();
@@ -176,9 +206,14 @@ public final class Manager implements IManager
         {
             if (getWorld().isComplete())
             {
+                profiler.start(Profiler.Phase.Input);
                 getInput().update(engine);
+                profiler.stop(Profiler.Phase.Input);
+                
+                profiler.start(Profiler.Phase.World);
                 getWorld().update(engine);
                 getMario().update(engine);
+                profiler.stop(Profiler.Phase.World);
             }
             else
             {
@@ -217,9 +252,25 @@ public final class Manager implements IManager
                 //don't draw mario when we are playing the games
                 if (!getWorld().isPlayingGame())
                 {
-                    getMario().render(graphics);
+                    if (getWorld().getMap().isDisplayed())
+                    {
+                        getMario().render(graphics);
+                    }
+                    else
+                    {
+                        //the hero is drawn relative to the level camera
+                        final Camera camera = getWorld().getLevels().getLevel().getCamera();
+                        
+                        camera.applyOffset(graphics);
+                        getMario().render(graphics);
+                        camera.removeOffset(graphics);
+                    }
                 }
             }
         }
+        
+        //draw the profiler overlay on top of everything
+        if (profiler.isDisplayed())
+            profiler.render(graphics);
     }
 }
\ No newline at end of file
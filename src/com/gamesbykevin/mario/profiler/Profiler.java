@@ -0,0 +1,362 @@
+package com.gamesbykevin.mario.profiler;
+
+import com.gamesbykevin.framework.resources.Disposable;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The profiler keeps track of how long each part of the game takes.<br>
+ * The most recent samples of each phase are stored in a ring buffer so the percentiles can be calculated.
+ * @author GOD
+ */
+public final class Profiler implements Disposable
+{
+    /**
+     * The different phases of each frame we time.<br>
+     * The world phase includes the enemies, power ups, and effects.
+     */
+    public enum Phase
+    {
+        Input, World, Enemies, PowerUps, Effects, Render, Blit
+    }
+    
+    //cache the phases so a new array isn't created each time
+    private static final Phase[] PHASES = Phase.values();
+    
+    //how many samples are kept for each phase
+    private static final int SAMPLES = 256;
+    
+    //how many renders until the overlay statistics are calculated again
+    private static final int REFRESH_DELAY = 30;
+    
+    //how many nanoseconds are there in one millisecond
+    private static final double NANO_SECONDS_PER_MILLISECOND = 1000000.0;
+    
+    //the percentiles we track
+    private static final int[] PERCENTILES = {50, 95, 99};
+    
+    //the recent samples for each phase (nano-seconds)
+    private final long[][] samples = new long[PHASES.length][SAMPLES];
+    
+    //the index where the next sample will be stored for each phase
+    private final int[] index = new int[PHASES.length];
+    
+    //the number of samples stored for each phase
+    private final int[] count = new int[PHASES.length];
+    
+    //the time each phase started
+    private final long[] starts = new long[PHASES.length];
+    
+    //copy of the samples that we sort to calculate the percentiles
+    private final long[] sorted = new long[SAMPLES];
+    
+    //the lines of text displayed in the overlay
+    private final String[] lines = new String[PHASES.length + 2];
+    
+    //the number of renders since the overlay statistics were calculated
+    private int refresh = REFRESH_DELAY;
+    
+    //the most recent number of updates per second
+    private int ups = 0;
+    
+    //the number of game images cached on the video card, -1 if not counted yet
+    private int accelerated = -1;
+    
+    //the number of game images
+    private int images = 0;
+    
+    //do we display the overlay
+    private boolean displayed = false;
+    
+    //font used for the overlay
+    private Font font;
+    
+    //the location and size of the overlay
+    private static final int OVERLAY_X = 2;
+    private static final int OVERLAY_Y = 2;
+    private static final int OVERLAY_WIDTH = 164;
+    private static final int LINE_HEIGHT = 9;
+    
+    public Profiler()
+    {
+        //do nothing
+    }
+    
+    /**
+     * Mark the start of the phase
+     * @param phase The phase we are timing
+     */
+    public void start(final Phase phase)
+    {
+        starts[phase.ordinal()] = System.nanoTime();
+    }
+    
+    /**
+     * Mark the end of the phase and store the time passed since start
+     * @param phase The phase we are timing
+     */
+    public void stop(final Phase phase)
+    {
+        final int i = phase.ordinal();
+        
+        //store the sample, overwriting the oldest
+        samples[i][index[i]] = System.nanoTime() - starts[i];
+        
+        //move to the next index
+        index[i] = (index[i] + 1) % SAMPLES;
+        
+        if (count[i] < SAMPLES)
+            count[i]++;
+    }
+    
+    /**
+     * Set the most recent number of updates per second
+     * @param ups The number of updates in the last second
+     */
+    public void setUps(final int ups)
+    {
+        this.ups = ups;
+    }
+    
+    public int getUps()
+    {
+        return this.ups;
+    }
+    
+    /**
+     * Set the number of game images cached on the video card.<br>
+     * The images are only cached after they have been drawn a few times, so count them once frames have been rendered.
+     * @param accelerated The number of images accelerated
+     * @param images The number of images
+     */
+    public void setAccelerated(final int accelerated, final int images)
+    {
+        this.accelerated = accelerated;
+        this.images = images;
+    }
+    
+    public void setDisplayed(final boolean displayed)
+    {
+        this.displayed = displayed;
+    }
+    
+    public boolean isDisplayed()
+    {
+        return this.displayed;
+    }
+    
+    /**
+     * Get the percentile of the recent samples for the phase
+     * @param phase The phase we want
+     * @param percentile The percentile (0 - 100)
+     * @return The time at the percentile (nano-seconds), if there are no samples 0 is returned
+     */
+    public long getPercentile(final Phase phase, final int percentile)
+    {
+        final int size = sort(phase);
+        
+        return getPercentile(size, percentile);
+    }
+    
+    /**
+     * Copy the samples of the phase into the sorted array
+     * @param phase The phase we want
+     * @return The number of samples copied
+     */
+    private int sort(final Phase phase)
+    {
+        final int size = count[phase.ordinal()];
+        
+        System.arraycopy(samples[phase.ordinal()], 0, sorted, 0, size);
+        Arrays.sort(sorted, 0, size);
+        
+        return size;
+    }
+    
+    /**
+     * Get the percentile from the sorted samples
+     * @param size The number of sorted samples
+     * @param percentile The percentile (0 - 100)
+     * @return The time at the percentile (nano-seconds), if there are no samples 0 is returned
+     */
+    private long getPercentile(final int size, final int percentile)
+    {
+        if (size < 1)
+            return 0;
+        
+        //use the nearest rank
+        final int rank = (int)Math.ceil((percentile / 100.0) * size);
+        
+        return sorted[Math.max(rank, 1) - 1];
+    }
+    
+    /**
+     * Convert the nano-seconds to milli-seconds
+     * @param time Time (nano-seconds)
+     * @return Formatted time (milli-seconds)
+     */
+    private static String toMilliseconds(final long time)
+    {
+        return String.format(Locale.US, "%.3f", time / NANO_SECONDS_PER_MILLISECOND);
+    }
+    
+    /**
+     * Get the percentiles of each phase as comma separated values
+     * @return CSV with a header row and one row per phase, the times are in milli-seconds
+     */
+    public String toCsv()
+    {
+        final StringBuilder builder = new StringBuilder("phase,samples,p50,p95,p99\n");
+        
+        for (Phase phase : PHASES)
+        {
+            final int size = sort(phase);
+            
+            builder.append(phase.toString()).append(',').append(size);
+            
+            for (int percentile : PERCENTILES)
+            {
+                builder.append(',').append(toMilliseconds(getPercentile(size, percentile)));
+            }
+            
+            builder.append('\n');
+        }
+        
+        return builder.toString();
+    }
+    
+    /**
+     * Get the percentiles of each phase as json
+     * @return JSON object with the ups, the accelerated images, and one entry per phase, the times are in milli-seconds
+     */
+    public String toJson()
+    {
+        final StringBuilder builder = new StringBuilder("{\"ups\":").append(ups);
+        
+        builder.append(",\"accelerated\":").append(accelerated).append(",\"images\":").append(images).append(",\"phases\":{");
+        
+        for (int i = 0; i < PHASES.length; i++)
+        {
+            final int size = sort(PHASES[i]);
+            
+            if (i > 0)
+                builder.append(',');
+            
+            builder.append('"').append(PHASES[i].toString()).append("\":{\"samples\":").append(size);
+            
+            for (int percentile : PERCENTILES)
+            {
+                builder.append(",\"p").append(percentile).append("\":").append(toMilliseconds(getPercentile(size, percentile)));
+            }
+            
+            builder.append('}');
+        }
+        
+        return builder.append("}}").toString();
+    }
+    
+    /**
+     * Write the percentiles of each phase to a csv and json file in the working directory
+     */
+    public void export()
+    {
+        try
+        {
+            //the directory where the files will be written
+            final File directory = new File(System.getProperty("user.dir"));
+            
+            write(new File(directory, "profile.csv"), toCsv());
+            write(new File(directory, "profile.json"), toJson());
+        }
+        catch (Exception e)
+        {
+            e.printStackTrace();
+        }
+    }
+    
+    private static void write(final File file, final String text) throws Exception
+    {
+        final Writer writer = new FileWriter(file);
+        
+        try
+        {
+            writer.write(text);
+        }
+        finally
+        {
+            writer.close();
+        }
+    }
+    
+    /**
+     * Calculate the statistics displayed in the overlay
+     */
+    private void refresh()
+    {
+        lines[0] = "UPS " + ups + "     p50    p95    p99";
+        
+        for (int i = 0; i < PHASES.length; i++)
+        {
+            final int size = sort(PHASES[i]);
+            
+            lines[i + 1] = String.format(Locale.US, "%-8s %6s %6s %6s",
+                PHASES[i].toString(),
+                toMilliseconds(getPercentile(size, PERCENTILES[0])),
+                toMilliseconds(getPercentile(size, PERCENTILES[1])),
+                toMilliseconds(getPercentile(size, PERCENTILES[2])));
+        }
+        
+        //the images are not counted until frames have been rendered
+        lines[lines.length - 1] = "Accelerated " + ((accelerated < 0) ? "-" : accelerated + "/" + images);
+        
+        //reset counter
+        refresh = 0;
+    }
+    
+    @Override
+    public void dispose()
+    {
+        font = null;
+    }
+    
+    /**
+     * Draw the overlay, the statistics are only calculated every so often
+     * @param graphics Graphics object used for drawing
+     */
+    public void render(final Graphics graphics)
+    {
+        //check if it is time to calculate the statistics
+        if (refresh >= REFRESH_DELAY)
+            refresh();
+        
+        refresh++;
+        
+        if (font == null)
+            font = new Font(Font.MONOSPACED, Font.PLAIN, 8);
+        
+        //store the current font so it can be restored
+        final Font original = graphics.getFont();
+        
+        //draw the background of the overlay
+        graphics.setColor(Color.BLACK);
+        graphics.fillRect(OVERLAY_X, OVERLAY_Y, OVERLAY_WIDTH, (lines.length * LINE_HEIGHT) + 3);
+        
+        //draw the statistics
+        graphics.setColor(Color.WHITE);
+        graphics.setFont(font);
+        
+        for (int i = 0; i < lines.length; i++)
+        {
+            graphics.drawString(lines[i], OVERLAY_X + 2, OVERLAY_Y + ((i + 1) * LINE_HEIGHT));
+        }
+        
+        graphics.setFont(original);
+    }
+}
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.gamesbykevin.framework.util.Timers;
 import com.gamesbykevin.mario.character.Character;
 import com.gamesbykevin.mario.effects.Effects;
 import com.gamesbykevin.mario.entity.Entity;
+import com.gamesbykevin.mario.entity.Pool;
 import com.gamesbykevin.mario.world.level.Level;
 
 public final class Boomerang extends Projectile
@@ -22,6 +23,9 @@ public final class Boomerang extends Projectile
     //the steps we will use to control the movement of the projectile
     private boolean step1 = true, step2 = false, step3 = false, step4 = false;
     
+    //the boomerangs no longer in play
+    private static final Pool<Boomerang> POOL = new Pool<>();
+    
     private enum State
     {
         Attacking
@@ -30,12 +34,40 @@ public final class Boomerang extends Projectile
     public Boomerang(final boolean east)
     {
         //set direction
-        setVelocityX((east) ? DEFAULT_VELOCITY_X : -DEFAULT_VELOCITY_X);
+        setDirection(east);
         
         //the jump velocity
         super.setJumpVelocity(DEFAULT_VELOCITY_Y);
     }
     
+    /**
+     * Get a boomerang from the pool, if there are none a new boomerang is created
+     * @param east Is the boomerang thrown east
+     * @return The boomerang
+     */
+    public static Boomerang create(final boolean east)
+    {
+        final Boomerang boomerang = POOL.obtain();
+        
+        if (boomerang == null)
+            return new Boomerang(east);
+        
+        boomerang.reset();
+        boomerang.setDirection(east);
+        return boomerang;
+    }
+    
+    @Override
+    public void recycle()
+    {
+        POOL.release(this);
+    }
+    
+    private void setDirection(final boolean east)
+    {
+        setVelocityX((east) ? DEFAULT_VELOCITY_X : -DEFAULT_VELOCITY_X);
+    }
+    
     @Override
     protected void defineAnimations()
     {
@@ -51,7 +83,7 @@ public final class Boomerang extends Projectile
             return false;
         
         //check how we should handle collision
-        if (getRectangle().intersects(character.getRectangle()))
+        if (overlaps(character))
         {
             //if the character is invincible
             if (character.isInvincible())
@@ -92,6 +124,12 @@ public final class Boomerang extends Projectile
         //set position
         setLocation(character);
         
+        //start at the first step
+        step1 = true;
+        step2 = false;
+        step3 = false;
+        step4 = false;
+        
         //this coordinate the y-coordinate will begin to change
         step1X = getX() + (getVelocityX() * 30);
         
@@ -121,10 +159,6 @@ public final class Boomerang extends Projectile
         }
         else
         {
-            //update for scrolling
-            step1X += level.getScrollX();
-            step4X += level.getScrollX();
-            
             if (step1)
             {
                 if (getVelocityX() > 0)
@@ -216,7 +250,7 @@ public final class Boomerang extends Projectile
         }
         
         //if the projectile is no longer on the screen, flag as dead
-        if (!level.getBoundary().intersects(getRectangle()) && getY() > level.getBoundary().getY())
+        if (!overlaps(level.getBoundary()) && getY() > level.getBoundary().getY())
         {
             //flag dead
             markDead();
@@ -4,9 +4,9 @@ import com.gamesbykevin.framework.util.Timers;
 
 import com.gamesbykevin.mario.character.Character;
 import com.gamesbykevin.mario.effects.Effects;
+import com.gamesbykevin.mario.entity.Pool;
 import com.gamesbykevin.mario.heroes.Hero;
 import com.gamesbykevin.mario.world.level.Level;
-import com.gamesbykevin.mario.world.level.tiles.Tile;
 import com.gamesbykevin.mario.world.level.tiles.Tiles;
 
 public final class BrosFireball extends Projectile
@@ -18,12 +18,42 @@ public final class BrosFireball extends Projectile
     private static final double DEFAULT_VELOCITY_Y = 2;
     private static final double DEFAULT_JUMP_VELOCITY = 2;
     
+    //the fireballs no longer in play
+    private static final Pool<BrosFireball> POOL = new Pool<>();
+    
     public BrosFireball()
     {
         //the jump velocity
         super.setJumpVelocity(DEFAULT_JUMP_VELOCITY);
     }
     
+    /**
+     * Get a fireball from the pool, if there are none a new fireball is created
+     * @return The fireball
+     */
+    public static BrosFireball create()
+    {
+        final BrosFireball fireball = POOL.obtain();
+        
+        if (fireball == null)
+            return new BrosFireball();
+        
+        fireball.reset();
+        return fireball;
+    }
+    
+    @Override
+    public void recycle()
+    {
+        POOL.release(this);
+    }
+    
+    @Override
+    public boolean usesTileCollision()
+    {
+        return true;
+    }
+    
     @Override
     protected void defineAnimations()
     {
@@ -34,7 +64,7 @@ public final class BrosFireball extends Projectile
     @Override
     public boolean checkCharacterCollision(final Character character, final Effects effects)
     {
-        if (getRectangle().intersects(character.getRectangle()))
+        if (overlaps(character))
         {
             //is the enemy weak towards a projectile
             if (character.hasWeaknessProjectile())
@@ -60,17 +90,17 @@ public final class BrosFireball extends Projectile
         Tiles tiles = level.getTiles();
         
         //if we hit a tile at the floor
-        if (checkCollisionSouth(tiles) != null && getVelocityY() > 0)
+        if (checkCollisionSouth(tiles) != Tiles.NONE && getVelocityY() > 0)
         {
             startJump();
         }
         else
         {
-            Tile west = checkCollisionWest(tiles);
-            Tile east = checkCollisionEast(tiles);
+            int west = checkCollisionWest(tiles);
+            int east = checkCollisionEast(tiles);
 
             //we have collision, remove fireball
-            if (west != null || east != null)
+            if (west != Tiles.NONE || east != Tiles.NONE)
             {
                 //add effect
                 level.getEffects().add(this, Effects.Type.FireballDestroy);
@@ -112,7 +142,7 @@ public final class BrosFireball extends Projectile
         checkLevelCollision(level);
         
         //if the projectile is no longer on the screen, flag as dead
-        if (!level.getBoundary().contains(getCenter()))
+        if (!isCenterInside(level.getBoundary()))
         {
             //flag dead
             markDead();
@@ -2,6 +2,7 @@ package com.gamesbykevin.mario.projectiles;
 
 import com.gamesbykevin.mario.character.Character;
 import com.gamesbykevin.mario.effects.Effects;
+import com.gamesbykevin.mario.entity.Pool;
 import com.gamesbykevin.mario.resources.GameAudio;
 import com.gamesbykevin.mario.world.level.Level;
 
@@ -14,6 +15,9 @@ public final class Bullet extends Projectile
     private static final double DEFAULT_VELOCITY_X = (Character.DEFAULT_SPEED_WALK * 2.75);
     private static final double DEFAULT_JUMP_VELOCITY = 4;    
     
+    //the bullets no longer in play
+    private static final Pool<Bullet> POOL = new Pool<>();
+    
     private enum State
     {
         Attacking
@@ -25,6 +29,27 @@ public final class Bullet extends Projectile
         super.setJumpVelocity(DEFAULT_JUMP_VELOCITY);
     }
     
+    /**
+     * Get a bullet from the pool, if there are none a new bullet is created
+     * @return The bullet
+     */
+    public static Bullet create()
+    {
+        final Bullet bullet = POOL.obtain();
+        
+        if (bullet == null)
+            return new Bullet();
+        
+        bullet.reset();
+        return bullet;
+    }
+    
+    @Override
+    public void recycle()
+    {
+        POOL.release(this);
+    }
+    
     @Override
     protected void defineAnimations()
     {
@@ -40,7 +65,7 @@ public final class Bullet extends Projectile
             return false;
         
         //check how we should handle collision
-        if (getRectangle().intersects(character.getRectangle()))
+        if (overlaps(character))
         {
             //make sure the character collides with the north and is jumping/falling, or invincible
             if (checkCollisionNorthAny(character) && character.hasVelocityY() && character.getY() < getY() ||
@@ -114,7 +139,7 @@ public final class Bullet extends Projectile
         }
         
         //if the projectile is no longer on the screen, flag as dead
-        if (!level.getBoundary().intersects(getRectangle()))
+        if (!overlaps(level.getBoundary()))
         {
             //flag dead
             markDead();
@@ -3,6 +3,7 @@ package com.gamesbykevin.mario.projectiles;
 import com.gamesbykevin.framework.util.Timers;
 import com.gamesbykevin.mario.character.Character;
 import com.gamesbykevin.mario.effects.Effects;
+import com.gamesbykevin.mario.entity.Pool;
 import com.gamesbykevin.mario.world.level.Level;
 
 public final class Hammer extends Projectile
@@ -13,6 +14,9 @@ public final class Hammer extends Projectile
     //the speed to move
     private static final double DEFAULT_VELOCITY_X = (Character.DEFAULT_SPEED_RUN * 1.1);
     
+    //the hammers no longer in play
+    private static final Pool<Hammer> POOL = new Pool<>();
+    
     private enum State
     {
         Attacking
@@ -21,12 +25,40 @@ public final class Hammer extends Projectile
     public Hammer(final boolean east)
     {
         //set direction
-        setVelocityX((east) ? DEFAULT_VELOCITY_X : -DEFAULT_VELOCITY_X);
+        setDirection(east);
         
         //the jump velocity
         super.setJumpVelocity((Character.DEFAULT_JUMP_VELOCITY * .5));
     }
     
+    /**
+     * Get a hammer from the pool, if there are none a new hammer is created
+     * @param east Is the hammer thrown east
+     * @return The hammer
+     */
+    public static Hammer create(final boolean east)
+    {
+        final Hammer hammer = POOL.obtain();
+        
+        if (hammer == null)
+            return new Hammer(east);
+        
+        hammer.reset();
+        hammer.setDirection(east);
+        return hammer;
+    }
+    
+    @Override
+    public void recycle()
+    {
+        POOL.release(this);
+    }
+    
+    private void setDirection(final boolean east)
+    {
+        setVelocityX((east) ? DEFAULT_VELOCITY_X : -DEFAULT_VELOCITY_X);
+    }
+    
     @Override
     protected void defineAnimations()
     {
@@ -42,7 +74,7 @@ public final class Hammer extends Projectile
             return false;
         
         //check how we should handle collision
-        if (getRectangle().intersects(character.getRectangle()))
+        if (overlaps(character))
         {
             //if the character is invincible
             if (character.isInvincible())
@@ -100,7 +132,7 @@ public final class Hammer extends Projectile
             applyGravity(level.getTiles());
         
         //if the projectile is no longer on the screen, flag as dead
-        if (!level.getBoundary().intersects(getRectangle()) && getY() > level.getBoundary().getY())
+        if (!overlaps(level.getBoundary()) && getY() > level.getBoundary().getY())
         {
             //flag dead
             markDead();
@@ -4,9 +4,9 @@ import com.gamesbykevin.framework.util.Timers;
 
 import com.gamesbykevin.mario.character.Character;
 import com.gamesbykevin.mario.effects.Effects;
+import com.gamesbykevin.mario.entity.Pool;
 import com.gamesbykevin.mario.heroes.Hero;
 import com.gamesbykevin.mario.world.level.Level;
-import com.gamesbykevin.mario.world.level.tiles.Tile;
 import com.gamesbykevin.mario.world.level.tiles.Tiles;
 
 public final class PlantFireball extends Projectile
@@ -17,9 +17,46 @@ public final class PlantFireball extends Projectile
     private static final double DEFAULT_VELOCITY_Y = 0.55;
     private static final double DEFAULT_VELOCITY_X = DEFAULT_VELOCITY_Y * 1.85;
     
+    //the fireballs no longer in play
+    private static final Pool<PlantFireball> POOL = new Pool<>();
+    
     public PlantFireball(final boolean north)
     {
         //set the appropriate direction
+        setDirection(north);
+    }
+    
+    /**
+     * Get a fireball from the pool, if there are none a new fireball is created
+     * @param north Is the fireball shot north
+     * @return The fireball
+     */
+    public static PlantFireball create(final boolean north)
+    {
+        final PlantFireball fireball = POOL.obtain();
+        
+        if (fireball == null)
+            return new PlantFireball(north);
+        
+        fireball.reset();
+        fireball.setDirection(north);
+        return fireball;
+    }
+    
+    @Override
+    public void recycle()
+    {
+        POOL.release(this);
+    }
+    
+    @Override
+    public boolean usesTileCollision()
+    {
+        return true;
+    }
+    
+    private void setDirection(final boolean north)
+    {
         setVelocityY((north) ? -DEFAULT_VELOCITY_Y : DEFAULT_VELOCITY_Y);
     }
     
@@ -33,7 +70,7 @@ public final class PlantFireball extends Projectile
     @Override
     public boolean checkCharacterCollision(final Character character, final Effects effects)
     {
-        if (getRectangle().intersects(character.getRectangle()))
+        if (overlaps(character))
         {
             if (!character.isHurt())
             {
@@ -61,12 +98,12 @@ public final class PlantFireball extends Projectile
     {
         Tiles tiles = level.getTiles();
         
-        Tile south = checkCollisionSouth(tiles);
-        Tile west = checkCollisionWest(tiles);
-        Tile east = checkCollisionEast(tiles);
+        int south = checkCollisionSouth(tiles);
+        int west = checkCollisionWest(tiles);
+        int east = checkCollisionEast(tiles);
 
         //we have collision, remove fireball
-        if (west != null || east != null || south != null)
+        if (west != Tiles.NONE || east != Tiles.NONE || south != Tiles.NONE)
         {
             //add effect
             level.getEffects().add(this, Effects.Type.FireballDestroy);
@@ -101,7 +138,7 @@ public final class PlantFireball extends Projectile
         checkLevelCollision(level);
         
         //if the projectile is no longer on the screen, flag as dead
-        if (!level.getBoundary().contains(getCenter()))
+        if (!isCenterInside(level.getBoundary()))
         {
             //flag dead
             markDead();
@@ -42,8 +42,37 @@ public abstract class Projectile extends Entity
     public abstract boolean checkCharacterCollision(final Character character, final Effects effects);
     
     /**
-     * Setup projectile
+     * Setup projectile.<br>
+     * A projectile taken from the pool is reset first, so any state that changes while in play needs to be set here.
      * @param character The character we want to add the projectile to
      */
     public abstract void setup(final Character character);
+    
+    /**
+     * Return the projectile to the pool of its type so it can be used again
+     */
+    public abstract void recycle();
+    
+    /**
+     * Reset the projectile when it is taken from the pool
+     */
+    protected void reset()
+    {
+        //no longer dead
+        setDead(false);
+        
+        //not jumping or moving
+        setJump(false);
+        resetVelocity();
+        
+        //face the default direction
+        setHorizontalFlip(false);
+        setVerticalFlip(false);
+        
+        //no sound to play
+        setAudioKey(null);
+        
+        //start the animation over
+        resetAnimation();
+    }
 }
\ No newline at end of file
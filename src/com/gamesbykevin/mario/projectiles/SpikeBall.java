@@ -4,6 +4,7 @@ package com.gamesbykevin.mario.projectiles;
 import com.gamesbykevin.mario.character.Character;
 import com.gamesbykevin.mario.effects.Effects;
 import com.gamesbykevin.mario.entity.Entity;
+import com.gamesbykevin.mario.entity.Pool;
 import com.gamesbykevin.mario.world.level.Level;
 
 public final class SpikeBall extends Projectile
@@ -21,6 +22,9 @@ public final class SpikeBall extends Projectile
     //location where the projectile will start to fly at target
     protected double destinationY;
     
+    //the spike balls no longer in play
+    private static final Pool<SpikeBall> POOL = new Pool<>();
+    
     private enum State
     {
         Attacking
@@ -32,6 +36,27 @@ public final class SpikeBall extends Projectile
         super.setJumpVelocity(DEFAULT_VELOCITY_Y);
     }
     
+    /**
+     * Get a spike ball from the pool, if there are none a new spike ball is created
+     * @return The spike ball
+     */
+    public static SpikeBall create()
+    {
+        final SpikeBall spikeBall = POOL.obtain();
+        
+        if (spikeBall == null)
+            return new SpikeBall();
+        
+        spikeBall.reset();
+        return spikeBall;
+    }
+    
+    @Override
+    public void recycle()
+    {
+        POOL.release(this);
+    }
+    
     @Override
     protected void defineAnimations()
     {
@@ -47,7 +72,7 @@ public final class SpikeBall extends Projectile
             return false;
         
         //check how we should handle collision
-        if (getRectangle().intersects(character.getRectangle()))
+        if (overlaps(character))
         {
             //if the character is invincible
             if (character.isInvincible())
@@ -133,7 +158,7 @@ public final class SpikeBall extends Projectile
         }
         
         //if the projectile is no longer on the screen, flag as dead
-        if (!level.getBoundary().intersects(getRectangle()))
+        if (!overlaps(level.getBoundary()))
         {
             //flag dead
             markDead();
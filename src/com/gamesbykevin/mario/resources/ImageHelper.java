@@ -0,0 +1,110 @@
+package com.gamesbykevin.mario.resources;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Creates images in the same format as the display.<br>
+ * An image in the display format is drawn with a direct copy, any other format has to be converted pixel by pixel every time it is drawn.
+ * @author GOD
+ */
+public final class ImageHelper
+{
+    private ImageHelper()
+    {
+        //do nothing
+    }
+    
+    /**
+     * Get the configuration of the display
+     * @return The configuration of the default screen, if there is no display null is returned
+     */
+    public static GraphicsConfiguration getConfiguration()
+    {
+        //there is no display without a screen
+        if (GraphicsEnvironment.isHeadless())
+            return null;
+        
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+    }
+    
+    /**
+     * Create a blank image in the format of the display
+     * @param width The width of the image
+     * @param height The height of the image
+     * @param transparency Transparency.OPAQUE, Transparency.BITMASK, or Transparency.TRANSLUCENT
+     * @return The new image
+     */
+    public static BufferedImage createImage(final int width, final int height, final int transparency)
+    {
+        final GraphicsConfiguration configuration = getConfiguration();
+        
+        //without a display use the format that is quickest to draw in software
+        if (configuration == null)
+            return new BufferedImage(width, height, (transparency == Transparency.OPAQUE) ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+        
+        return configuration.createCompatibleImage(width, height, transparency);
+    }
+    
+    /**
+     * Copy the image into the format of the display.<br>
+     * The transparency of the image is kept, and the copy is marked to be cached on the video card.
+     * @param image The image we want to convert
+     * @return The copy of the image, if the image is already in the display format or there is no display the same image is returned
+     */
+    public static Image toCompatibleImage(final Image image)
+    {
+        final GraphicsConfiguration configuration = getConfiguration();
+        
+        //there is nothing to convert to
+        if (configuration == null || image == null)
+            return image;
+        
+        final int width = image.getWidth(null);
+        final int height = image.getHeight(null);
+        
+        //the image has not been loaded
+        if (width < 1 || height < 1)
+            return image;
+        
+        final int transparency = (image instanceof Transparency) ? ((Transparency)image).getTransparency() : Transparency.TRANSLUCENT;
+        
+        //the image is already in the display format
+        if (image instanceof BufferedImage && ((BufferedImage)image).getColorModel().equals(configuration.getColorModel(transparency)))
+            return image;
+        
+        final BufferedImage result = configuration.createCompatibleImage(width, height, transparency);
+        
+        //copy the pixels exactly, including the transparent ones
+        final Graphics2D graphics = result.createGraphics();
+        graphics.setComposite(AlphaComposite.Src);
+        graphics.drawImage(image, 0, 0, null);
+        graphics.dispose();
+        
+        //ask for the image to be cached on the video card
+        result.setAccelerationPriority(1.0f);
+        
+        return result;
+    }
+    
+    /**
+     * Is the image cached on the video card.<br>
+     * An image is only cached after it has been drawn a few times, so this is only accurate once the game is running.
+     * @param image The image we want to check
+     * @return true if drawing the image is done by the video card, false otherwise
+     */
+    public static boolean isAccelerated(final Image image)
+    {
+        final GraphicsConfiguration configuration = getConfiguration();
+        
+        if (configuration == null || image == null)
+            return false;
+        
+        return image.getCapabilities(configuration).isAccelerated();
+    }
+}
\ No newline at end of file
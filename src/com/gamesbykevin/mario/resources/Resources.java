@@ -6,6 +6,7 @@ import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Image;
 import java.awt.Rectangle;
+import java.util.HashMap;
 
 /**
  * This class will load all resources in the collection and provide a way to access them
@@ -32,6 +33,9 @@ public final class Resources implements IResources
     private GameFont fonts;
     private GameText textFiles;
     
+    //the game images converted to the format of the display
+    private final HashMap<Object, Image> compatibleImages = new HashMap<>();
+    
     public Resources() throws Exception
     {
         //object to contain audio resources
@@ -121,6 +125,9 @@ public final class Resources implements IResources
         //verify all existing keys are contained in the xml file
         fonts.verifyLocations(GameFont.Keys.values());
         
+        //convert the images once so they don't have to be converted every time they are drawn
+        createCompatibleImages();
+        
         //we are done loading the resources
         this.loading = false;
     }
@@ -150,7 +157,52 @@ public final class Resources implements IResources
      */
     public Image getGameImage(final Object key)
     {
-        return images.get(key);
+        final Image image = compatibleImages.get(key);
+        
+        //use the converted image if there is one
+        return (image != null) ? image : images.get(key);
+    }
+    
+    /**
+     * Copy each game image into the format of the display
+     */
+    private void createCompatibleImages()
+    {
+        for (GameImages.Keys key : GameImages.Keys.values())
+        {
+            compatibleImages.put(key, ImageHelper.toCompatibleImage(images.get(key)));
+        }
+        
+        //the hero, enemies, and their projectiles are flipped when facing the other way or defeated
+        SpriteAtlas.create(compatibleImages.get(GameImages.Keys.MarioSpriteSheet));
+        SpriteAtlas.create(compatibleImages.get(GameImages.Keys.Enemies));
+    }
+    
+    /**
+     * Count the converted game images that are cached on the video card.<br>
+     * An image is only cached after it has been drawn a few times, so this is only accurate once frames have been rendered.
+     * @return The number of images accelerated
+     */
+    public int getAcceleratedCount()
+    {
+        int count = 0;
+        
+        for (Image image : compatibleImages.values())
+        {
+            if (ImageHelper.isAccelerated(image))
+                count++;
+        }
+        
+        return count;
+    }
+    
+    /**
+     * Get the number of converted game images
+     * @return The number of images
+     */
+    public int getCompatibleCount()
+    {
+        return compatibleImages.size();
     }
     
     public Text getGameText(final Object key)
@@ -196,6 +248,17 @@ public final class Resources implements IResources
             audio = null;
         }
         
+        //remove the mirrored copies of the sprite sheets
+        SpriteAtlas.clear();
+        
+        for (Image image : compatibleImages.values())
+        {
+            if (image != null)
+                image.flush();
+        }
+        
+        compatibleImages.clear();
+        
         if (images != null)
         {
             images.dispose();
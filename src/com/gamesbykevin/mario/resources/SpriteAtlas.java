@@ -0,0 +1,147 @@
+package com.gamesbykevin.mario.resources;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.IdentityHashMap;
+
+/**
+ * Mirrored copies of the sprite sheets, so a flipped frame is drawn with a plain copy instead of a flipped draw.<br>
+ * A frame at (x, y) on the sprite sheet is at (sheet width - x - frame width, y) on the horizontal copy,
+ * and at (x, sheet height - y - frame height) on the vertical copy.
+ * @author GOD
+ */
+public final class SpriteAtlas
+{
+    //the index of each copy
+    private static final int HORIZONTAL = 1;
+    private static final int VERTICAL = 2;
+    private static final int BOTH = HORIZONTAL | VERTICAL;
+    
+    //the copies of each sprite sheet, the original sheet is at index 0
+    private static final IdentityHashMap<Image, Image[]> SHEETS = new IdentityHashMap<>();
+    
+    private SpriteAtlas()
+    {
+        //do nothing
+    }
+    
+    /**
+     * Create the mirrored copies of the sprite sheet ahead of time
+     * @param image The sprite sheet
+     */
+    public static void create(final Image image)
+    {
+        if (image == null)
+            return;
+        
+        get(image, HORIZONTAL);
+        get(image, VERTICAL);
+        get(image, BOTH);
+    }
+    
+    /**
+     * Get the copy of the sprite sheet with the flip.<br>
+     * If the copy has not been created yet it will be created now.
+     * @param image The sprite sheet
+     * @param horizontal Is the copy mirrored horizontally
+     * @param vertical Is the copy mirrored vertically
+     * @return The copy of the sprite sheet, if there is no flip the sprite sheet is returned, null if the sprite sheet has not been loaded
+     */
+    public static Image get(final Image image, final boolean horizontal, final boolean vertical)
+    {
+        return get(image, (horizontal ? HORIZONTAL : 0) | (vertical ? VERTICAL : 0));
+    }
+    
+    private static Image get(final Image image, final int flip)
+    {
+        if (flip == 0)
+            return image;
+        
+        //the size is needed to create the copy
+        if (image.getWidth(null) < 1 || image.getHeight(null) < 1)
+            return null;
+        
+        Image[] sheets = SHEETS.get(image);
+        
+        if (sheets == null)
+        {
+            sheets = new Image[BOTH + 1];
+            sheets[0] = image;
+            SHEETS.put(image, sheets);
+        }
+        
+        if (sheets[flip] == null)
+            sheets[flip] = createMirror(image, (flip & HORIZONTAL) != 0, (flip & VERTICAL) != 0);
+        
+        return sheets[flip];
+    }
+    
+    /**
+     * Create a mirrored copy of the image
+     * @param image The image we want to copy
+     * @param horizontal Mirror the image horizontally
+     * @param vertical Mirror the image vertically
+     * @return The mirrored copy in the format of the display
+     */
+    private static Image createMirror(final Image image, final boolean horizontal, final boolean vertical)
+    {
+        final int width = image.getWidth(null);
+        final int height = image.getHeight(null);
+        
+        final int transparency = (image instanceof Transparency) ? ((Transparency)image).getTransparency() : Transparency.TRANSLUCENT;
+        
+        final BufferedImage result = ImageHelper.createImage(width, height, transparency);
+        
+        //swap the corners to mirror the image
+        final int x1 = (horizontal) ? width : 0;
+        final int x2 = (horizontal) ? 0 : width;
+        final int y1 = (vertical) ? height : 0;
+        final int y2 = (vertical) ? 0 : height;
+        
+        //copy the pixels exactly, including the transparent ones
+        final Graphics2D graphics = result.createGraphics();
+        graphics.setComposite(AlphaComposite.Src);
+        graphics.drawImage(image, x1, y1, x2, y2, 0, 0, width, height, null);
+        graphics.dispose();
+        
+        return result;
+    }
+    
+    /**
+     * Remove the copy of the sprite sheet
+     * @param image The sprite sheet no longer used
+     */
+    public static void remove(final Image image)
+    {
+        final Image[] sheets = SHEETS.remove(image);
+        
+        if (sheets == null)
+            return;
+        
+        for (int i = 1; i < sheets.length; i++)
+        {
+            if (sheets[i] != null)
+                sheets[i].flush();
+        }
+    }
+    
+    /**
+     * Remove the copies of every sprite sheet
+     */
+    public static void clear()
+    {
+        for (Image[] sheets : SHEETS.values())
+        {
+            for (int i = 1; i < sheets.length; i++)
+            {
+                if (sheets[i] != null)
+                    sheets[i].flush();
+            }
+        }
+        
+        SHEETS.clear();
+    }
+}
\ No newline at end of file
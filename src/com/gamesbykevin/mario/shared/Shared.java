@@ -1,6 +1,7 @@
 package com.gamesbykevin.mario.shared;
 
 import java.awt.Cursor;
+import java.awt.GraphicsEnvironment;
 import java.awt.Point;
 import java.awt.Toolkit;
 import java.awt.image.BufferedImage;
@@ -36,5 +37,18 @@ public final class Shared
     public static final String GAME_NAME = "Super Mario";
     
     //blank cursor created here to hide the mouse cursor
-    public static final Cursor CURSOR = Toolkit.getDefaultToolkit().createCustomCursor(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB), new Point(0, 0), "blank cursor");
+    public static final Cursor CURSOR = createCursor();
+    
+    /**
+     * Create a blank cursor to hide the mouse cursor
+     * @return The blank cursor, if there is no display null is returned
+     */
+    private static Cursor createCursor()
+    {
+        //a cursor can't be created without a display
+        if (GraphicsEnvironment.isHeadless())
+            return null;
+        
+        return Toolkit.getDefaultToolkit().createCustomCursor(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB), new Point(0, 0), "blank cursor");
+    }
 }
\ No newline at end of file
@@ -78,6 +78,17 @@ public final class Levels implements Disposable, IElement, IProgress
         return this.levels.get(index);
     }
     
+    /**
+     * Replace the current level with the specified level.<br>
+     * The level replaced is not disposed, so it can be put back later.
+     * @param level The level that will be the current level
+     * @return The level that was replaced
+     */
+    public Level setLevel(final Level level)
+    {
+        return this.levels.set(index, level);
+    }
+    
     private boolean hasEnemiesHidden()
     {
         return this.hide;
@@ -108,11 +108,11 @@ public final class Background extends Entity implements Disposable
         final double y = getY();
         
         //draw the background 3 times
-        super.draw(graphics);
+        super.drawAnimation(graphics);
         super.setX(x - super.getWidth());
-        super.draw(graphics);
+        super.drawAnimation(graphics);
         super.setX(x + super.getWidth());
-        super.draw(graphics);
+        super.drawAnimation(graphics);
         
         //restore location
         super.setX(x);
@@ -0,0 +1,153 @@
+package com.gamesbykevin.mario.world.level;
+
+import java.awt.Graphics;
+import java.awt.Rectangle;
+
+/**
+ * The camera determines which part of the level is displayed.<br>
+ * Everything in the level stays at the same (x,y) coordinate, only the camera moves.
+ * @author GOD
+ */
+public final class Camera
+{
+    //the area of the screen where the level is displayed
+    private final Rectangle window;
+    
+    //the area of the level currently displayed (level coordinates)
+    private final Rectangle boundary;
+    
+    //the x-coordinate of the camera
+    private double x = 0;
+    
+    //the x-coordinate at the last update so we know how far the camera moved
+    private double previousX = 0;
+    
+    //the furthest east the camera can scroll
+    private double limitX = 0;
+    
+    /**
+     * Create a new camera
+     * @param window The area of the screen where the level is displayed
+     */
+    public Camera(final Rectangle window)
+    {
+        this.window = new Rectangle(window);
+        this.boundary = new Rectangle(window);
+    }
+    
+    /**
+     * Set the size of the level so we know how far we can scroll
+     * @param width The total width of the level (pixels)
+     */
+    public void setLimit(final double width)
+    {
+        this.limitX = (width > window.width) ? width - window.width : 0;
+    
+        //make sure we are still in bounds
+        setX(getX());
+    }
+    
+    /**
+     * Set the x-coordinate of the camera, the camera will stay within the level
+     * @param x The x-coordinate of the west side of the camera
+     */
+    public void setX(final double x)
+    {
+        if (x < 0)
+        {
+            this.x = 0;
+        }
+        else if (x > limitX)
+        {
+            this.x = limitX;
+        }
+        else
+        {
+            this.x = x;
+        }
+    
+        //update the area displayed
+        this.boundary.x = window.x + getOffsetX();
+    }
+    
+    /**
+     * Get the x-coordinate of the camera
+     * @return The x-coordinate of the west side of the camera
+     */
+    public double getX()
+    {
+        return this.x;
+    }
+    
+    /**
+     * Get the offset applied when drawing the level
+     * @return The x-coordinate of the camera rounded down to the nearest pixel
+     */
+    public int getOffsetX()
+    {
+        return (int)this.x;
+    }
+    
+    /**
+     * Get the distance scrolled since the last update.<br>
+     * The value is the direction the level appears to move, so scrolling east is a negative value.
+     * @return The x-coordinate speed the level is scrolling
+     */
+    public double getScrollX()
+    {
+        return (previousX - x);
+    }
+    
+    /**
+     * Get the area of the screen where the level is displayed
+     * @return The window in screen coordinates
+     */
+    public Rectangle getWindow()
+    {
+        return this.window;
+    }
+    
+    /**
+     * Get the area of the level currently displayed
+     * @return The window in level coordinates
+     */
+    public Rectangle getBoundary()
+    {
+        return this.boundary;
+    }
+    
+    /**
+     * Record the current location so we know how far the camera moves until the next update
+     */
+    public void update()
+    {
+        this.previousX = x;
+    }
+    
+    /**
+     * Move the camera back to the start of the level
+     */
+    public void reset()
+    {
+        setX(0);
+        update();
+    }
+    
+    /**
+     * Offset the graphics object so the level is drawn relative to the camera
+     * @param graphics Graphics object used for drawing
+     */
+    public void applyOffset(final Graphics graphics)
+    {
+        graphics.translate(-getOffsetX(), 0);
+    }
+    
+    /**
+     * Remove the offset applied in applyOffset
+     * @param graphics Graphics object used for drawing
+     */
+    public void removeOffset(final Graphics graphics)
+    {
+        graphics.translate(getOffsetX(), 0);
+    }
+}
\ No newline at end of file
@@ -8,6 +8,7 @@ import com.gamesbykevin.mario.effects.Effects;
 import com.gamesbykevin.mario.enemies.Enemies;
 import com.gamesbykevin.mario.engine.Engine;
 import com.gamesbykevin.mario.entity.Entity;
+import com.gamesbykevin.mario.profiler.Profiler;
 import com.gamesbykevin.mario.world.level.powerups.PowerUps;
 import com.gamesbykevin.mario.world.level.tiles.Tile;
 import com.gamesbykevin.mario.world.level.tiles.Tiles;
@@ -25,11 +26,8 @@ public final class Level implements Disposable, IElement, IAudio
     //list of tiles in the level
     private Tiles tiles;
     
-    //used so we can determine what tiles need to be rendered
-    private Rectangle boundary;
-    
-    //variables used for scrolling the tiles
-    private double scrollX = 0;
+    //the camera determines what part of the level is displayed
+    private Camera camera;
     
     //the location where the level will start to be drawn on screen (north-west corner)
     public static final int LEVEL_START_X = 0;
@@ -71,8 +69,8 @@ public final class Level implements Disposable, IElement, IAudio
      */
     public Level(final Rectangle boundary)
     {
-        //set boundary
-        this.boundary = boundary;
+        //create the camera for the area where the level is displayed
+        this.camera = new Camera(boundary);
         
         //create a new timer
         this.timer = new Timer(LEVEL_DURATION);
@@ -159,27 +157,6 @@ public final class Level implements Disposable, IElement, IAudio
         this.complete = true;
     }
     
-    /**
-     * Set the scroll speed
-     * @param scrollX The speed at which to move the x-coordinate 
-     */
-    public void setScrollX(final double scrollX)
-    {
-        this.scrollX = scrollX;
-        
-        //also set speed of background a little slower so there appears to be depth
-        background.setVelocityX(scrollX / 2);
-    }
-    
-    /**
-     * Get the scroll speed
-     * @return the x-coordinate speed to scroll
-     */
-    public double getScrollX()
-    {
-        return this.scrollX;
-    }
-    
     /**
      * Get the x-coordinate based on the specified column, the startX set for the level, and the tile width
      * @param column The column where we want the x-coordinate
@@ -229,6 +206,9 @@ public final class Level implements Disposable, IElement, IAudio
         //crete new tile container
         this.tiles = new Tiles(columns, Level.LEVEL_ROWS_PER_SCREEN, image);
         
+        //the camera can't scroll past the last column
+        this.camera.setLimit(getX(columns));
+        
         //populate the tiles
         this.tiles.populate(this, random);
     }
@@ -244,7 +224,7 @@ public final class Level implements Disposable, IElement, IAudio
         if (this.enemies == null)
         {
             //create new container for the enemies
-            this.enemies = new Enemies(image, boundary);
+            this.enemies = new Enemies(image, getBoundary());
         }
         else
         {
@@ -295,45 +275,42 @@ public final class Level implements Disposable, IElement, IAudio
         return this.enemies;
     }
     
+    public Camera getCamera()
+    {
+        return this.camera;
+    }
+    
+    /**
+     * Get the area of the level currently displayed
+     * @return The camera boundary in level coordinates
+     */
     public Rectangle getBoundary()
     {
-        return this.boundary;
+        return this.camera.getBoundary();
     }
     
     /**
-     * Move all everything back to start coordinates
+     * Move the camera back to the start of the level
      */
     public void reset()
     {
-        //x offset
-        final double x = getTiles().getTile(0, 0).getX();
-        
         //reset level timer
         getTimer().reset();
         
-        //move tiles back
-        getTiles().moveTiles(-x, 0);
-        
-        //move enemies back as well
-        getEnemies().moveEnemies(-x, 0);
-        
         //remove all projectiles
         getEnemies().removeProjectiles();
         
-        //move power ups back as well
-        getPowerUps().movePowerUps(-x, 0);
-        
         //remove all effects
         getEffects().removeAll();
         
-        //stop scrolling
-        setScrollX(0);
+        //move camera back to the start
+        getCamera().reset();
     }
     
     @Override
     public void dispose()
     {
-        boundary = null;
+        camera = null;
         timer = null;
         
         if (tiles != null)
@@ -370,6 +347,9 @@ public final class Level implements Disposable, IElement, IAudio
     @Override
     public void update(final Engine engine)
     {
+        //keeps track of how long each part of the level takes
+        final Profiler profiler = engine.getMain().getProfiler();
+        
         //if there is audio to be played
         if (getAudioKey() != null)
         {
@@ -381,16 +361,26 @@ public final class Level implements Disposable, IElement, IAudio
         }
         
         //update tiles
-        tiles.update(engine.getMain().getTime(), getScrollX());
+        tiles.update(engine.getMain().getTime());
         
         //update power ups
-        powerUps.update(engine.getMain().getTime(), getScrollX(), engine.getRandom(), getTiles());
+        profiler.start(Profiler.Phase.PowerUps);
+        powerUps.update(engine.getMain().getTime(), engine.getRandom(), getTiles());
+        profiler.stop(Profiler.Phase.PowerUps);
+        
+        //set speed of background a little slower than the camera so there appears to be depth
+        background.setVelocityX(camera.getScrollX() / 2);
         
         //update location
-        background.update(getBoundary().x, getBoundary().x + getBoundary().width, engine.getMain().getTime());
+        background.update(camera.getWindow().x, camera.getWindow().x + camera.getWindow().width, engine.getMain().getTime());
+        
+        //the camera movement has been applied
+        camera.update();
         
         //update effects animation
-        effects.update(engine.getMain().getTime(), getScrollX());
+        profiler.start(Profiler.Phase.Effects);
+        effects.update(engine.getMain().getTime());
+        profiler.stop(Profiler.Phase.Effects);
         
         //if level is not solved
         if (!isComplete())
@@ -399,7 +389,9 @@ public final class Level implements Disposable, IElement, IAudio
             if (!hide)
             {
                 //update enemies
+                profiler.start(Profiler.Phase.Enemies);
                 enemies.update(engine);
+                profiler.stop(Profiler.Phase.Enemies);
             }
         }
         
@@ -413,6 +405,9 @@ public final class Level implements Disposable, IElement, IAudio
         //draw the background first
         background.render(graphics);
         
+        //the level objects are drawn relative to the camera
+        camera.applyOffset(graphics);
+        
         //draw background objects etc..
         tiles.renderNonSolidTiles(graphics, getBoundary());
         
@@ -438,5 +433,8 @@ public final class Level implements Disposable, IElement, IAudio
             //draw projectiles on top of solid tiles
             enemies.renderProjectiles(graphics);
         }
+        
+        //restore the graphics object
+        camera.removeOffset(graphics);
     }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package com.gamesbykevin.mario.world.level;
 
-import com.gamesbykevin.mario.world.level.tiles.Tile;
 import com.gamesbykevin.mario.world.level.tiles.Tiles;
 import com.gamesbykevin.mario.world.level.powerups.PowerUps;
 
@@ -287,11 +286,6 @@ public class LevelCreatorHelper
         return options.get(random.nextInt(options.size()));
     }
     
-    public static boolean isCloudTile(final Tile tile)
-    {
-        return isCloudTile(tile.getType());
-    }
-    
     public static boolean isCloudTile(final Tiles.Type type)
     {
         switch(type)
@@ -373,11 +367,6 @@ public class LevelCreatorHelper
         return options.get(random.nextInt(options.size()));
     }
     
-    public static boolean isBackgroundTile(final Tile tile)
-    {
-        return isBackgroundTile(tile.getType());
-    }
-    
     public static boolean isBackgroundTile(final Tiles.Type type)
     {
         switch (type)
@@ -469,12 +458,8 @@ public class LevelCreatorHelper
         final int col = level.getTiles().getColumns() - (Level.LEVEL_COLUMNS_PER_SCREEN / 2);
         final int row = level.getTiles().getFloorRow() - 1;
         
-        //locate x,y coordinates 
-        final int x = level.getX(col);
-        final int y = level.getY(row);
-        
         //add goal switch
-        level.getTiles().add(Tiles.Type.Goal, col, row, x, y);
+        level.getTiles().add(Tiles.Type.Goal, col, row);
     }
     
     /**
@@ -496,10 +481,6 @@ public class LevelCreatorHelper
         //fill floor first
         for (int col = 0; col < level.getTiles().getColumns(); col++)
         {
-            //locate x,y coordinates of the tiles
-            int x;
-            int y;
-            
             //if the first screen or last add all floors by default
             if (level.getTiles().isSafeZone(col))
             {
@@ -507,20 +488,17 @@ public class LevelCreatorHelper
                 {
                     for (int i = 0; i < Level.LEVEL_COLUMNS_PER_SCREEN; i++)
                     {
-                        x = level.getX(col + i);
-                        y = level.getY(level.getTiles().getFloorRow());
-                        
                         if (i == 0)
                         {
-                            level.getTiles().add(west, col + i, level.getTiles().getFloorRow(), x, y);
+                            level.getTiles().add(west, col + i, level.getTiles().getFloorRow());
                         }
                         else if (i == Level.LEVEL_COLUMNS_PER_SCREEN - 1)
                         {
-                            level.getTiles().add(east, col + i, level.getTiles().getFloorRow(), x, y);
+                            level.getTiles().add(east, col + i, level.getTiles().getFloorRow());
                         }
                         else
                         {
-                            level.getTiles().add(type, col + i, level.getTiles().getFloorRow(), x, y);
+                            level.getTiles().add(type, col + i, level.getTiles().getFloorRow());
                         }
                     }
                 }
@@ -565,24 +543,21 @@ public class LevelCreatorHelper
                     for (int i=0; i < floorLength; i++)
                     {
                         //locate x,y coordinates for each tile
-                        x = level.getX(col + i);
-                        y = level.getY(level.getTiles().getFloorRow());
-                        
                         //add west side for first
                         if (i == 0)
                         {
-                            level.getTiles().add(west, col + i, level.getTiles().getFloorRow(), x, y);
+                            level.getTiles().add(west, col + i, level.getTiles().getFloorRow());
                         }
                         else if (col + i == level.getTiles().getColumns() - 1 || i == floorLength - 1)
                         {
                             //add end floor and exit loop
-                            level.getTiles().add(east, col + i, level.getTiles().getFloorRow(), x, y);
+                            level.getTiles().add(east, col + i, level.getTiles().getFloorRow());
                             break;
                         }
                         else if (col + i < level.getTiles().getColumns())
                         {
                             //everything else will have regular floor
-                            level.getTiles().add(type, col + i, level.getTiles().getFloorRow(), x, y);
+                            level.getTiles().add(type, col + i, level.getTiles().getFloorRow());
                         }
                     }
                     
@@ -620,12 +595,8 @@ public class LevelCreatorHelper
                 //fill in gap
                 for (int i = 0; i < gapSize; i++)
                 {
-                    //locate x,y coordinates for each tile
-                    int x = level.getX(col + i);
-                    int y = level.getY(level.getTiles().getFloorRow() + 1);
-
                     //add deadly gap obstacle
-                    level.getTiles().add(tmp, col + i, level.getTiles().getFloorRow() + 1, x, y);
+                    level.getTiles().add(tmp, col + i, level.getTiles().getFloorRow() + 1);
                 }
 
                 //skip to the next gap
@@ -669,7 +640,7 @@ public class LevelCreatorHelper
                     break;
                 }
                 
-                if (level.getTiles().getTile(col + x, placeRow) != null && LevelCreatorHelper.isDeadlyObstacle(level.getTiles().getTile(col + x, placeRow).getType()))
+                if (level.getTiles().hasTile(col + x, placeRow) && LevelCreatorHelper.isDeadlyObstacle(level.getTiles().getType(col + x, placeRow)))
                 {
                     valid = false;
                     break;
@@ -682,12 +653,8 @@ public class LevelCreatorHelper
             //now make sure there is nothing blocking it
             if (!level.getTiles().isOccupied(col, placeRow, type, false) && level.getTiles().isOccupied(col, placeRow + 1, type, false))
             {
-                //locate x,y coordinates for the tile
-                int x = level.getX(col);
-                int y = level.getY(placeRow);
-
                 //finally add deadly obstacle
-                level.getTiles().add(type, col, placeRow, x, y);
+                level.getTiles().add(type, col, placeRow);
             }
         }
     }
@@ -740,12 +707,8 @@ public class LevelCreatorHelper
                 if (!level.getTiles().hasTile(col - 1, level.getTiles().getFloorRow()))
                     continue;
                 
-                //locate x,y coordinates for the tile
-                int x = level.getX(col);
-                int y = level.getY(placeRow);
-
                 //finally add obstacle
-                level.getTiles().add(type, col, placeRow, x, y);
+                level.getTiles().add(type, col, placeRow);
                 
                 //add space between collision obstacles
                 col += MIN_COLLISION_OBSTACLE_SPACE + type.getColumnDimensions();
@@ -796,12 +759,8 @@ public class LevelCreatorHelper
             if (!valid)
                 continue;
             
-            //locate x,y coordinates for the tile
-            int x = level.getX(col);
-            int y = level.getY(placeRow);
-
             //place platform
-            level.getTiles().add(type, col, placeRow, x, y);
+            level.getTiles().add(type, col, placeRow);
 
             //get number of columns in platform
             final int columns = type.getColumnDimensions();
@@ -818,12 +777,8 @@ public class LevelCreatorHelper
                 //add deadly obstacles right below platform
                 for (int i = 0; i < columns; i++)
                 {
-                    //locate x,y coordinates for the tile
-                    x = level.getX(col + i);
-                    y = level.getY(placeRow + 1);
-
                     //place platform
-                    level.getTiles().add(type, col + i, placeRow + 1, x, y);
+                    level.getTiles().add(type, col + i, placeRow + 1);
                 }
             }
             
@@ -872,12 +827,8 @@ public class LevelCreatorHelper
                     //make sure we aren't placing background over another tile
                     if (!level.getTiles().isOccupied(col, placeRow, type, false))
                     {
-                        //locate x,y coordinates for the tile
-                        int x = level.getX(col);
-                        int y = level.getY(placeRow);
-
                         //place background
-                        level.getTiles().add(type, col, placeRow, x, y);
+                        level.getTiles().add(type, col, placeRow);
                     }
                 }
             }
@@ -908,12 +859,8 @@ public class LevelCreatorHelper
             {
                 if (!level.getTiles().isOccupied(col, placeRow, type, false))
                 {
-                    //locate x,y coordinates for the tile
-                    int x = level.getX(col);
-                    int y = level.getY(placeRow);
-
                     //place cloud
-                    level.getTiles().add(type, col, placeRow, x, y);
+                    level.getTiles().add(type, col, placeRow);
                 }
                 
                 //skip columns
@@ -980,22 +927,18 @@ public class LevelCreatorHelper
             
             for (int z = 0; z < total; z++)
             {
-                //locate x,y coordinates for the tile
-                int x = level.getX(col + z);
-                int y = level.getY(placeRow);
-                
                 //add block to list
-                level.getTiles().add(type, col + z, placeRow, x, y);
+                level.getTiles().add(type, col + z, placeRow);
                 
                 //determine if the block contains a powerup
                 switch (type)
                 {
                     case BreakableBrick:
-                        level.getTiles().getTile(col + z, placeRow).setPowerup(random.nextInt(BRICK_POWER_UP_PROBABILITY) == 0);
+                        level.getTiles().setPowerup(col + z, placeRow, random.nextInt(BRICK_POWER_UP_PROBABILITY) == 0);
                         break;
                         
                     case QuestionBlock:
-                        level.getTiles().getTile(col + z, placeRow).setPowerup(random.nextInt(BLOCK_POWER_UP_PROBABILITY) == 0);
+                        level.getTiles().setPowerup(col + z, placeRow, random.nextInt(BLOCK_POWER_UP_PROBABILITY) == 0);
                         break;
                 }
             }
@@ -1034,9 +977,9 @@ public class LevelCreatorHelper
                 for (int z = 0; z < totalCols; z++)
                 {
                     //check the current tule
-                    Tile tile = level.getTiles().getTile(col + z, placeRow + i);
+                    final Tiles.Type type = level.getTiles().getType(col + z, placeRow + i);
                     
-                    if (tile != null && !LevelCreatorHelper.isBackgroundTile(tile) && !LevelCreatorHelper.isCloudTile(tile))
+                    if (type != null && !LevelCreatorHelper.isBackgroundTile(type) && !LevelCreatorHelper.isCloudTile(type))
                     {
                         //we can't place coins if the space is occupied with solid objects
                         valid = false;
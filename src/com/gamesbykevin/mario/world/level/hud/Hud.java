@@ -132,17 +132,17 @@ public final class Hud extends Entity implements Disposable, IElement
         
         super.setAnimation(Key.Heart, false);
         super.setLocation(livesLocation);
-        super.draw(graphics);
+        super.drawAnimation(graphics);
         graphics.drawString("" + lives, livesLocation.x + (int)getWidth() + 3, livesLocation.y + (int)getHeight());
         
         super.setAnimation(Key.Clock, false);
         super.setLocation(timerLocation);
-        super.draw(graphics);
+        super.drawAnimation(graphics);
         graphics.drawString("" + (int)(remaining / Timers.NANO_SECONDS_PER_SECOND), timerLocation.x + (int)getWidth() + 3, timerLocation.y + (int)getHeight());
         
         super.setAnimation(Key.Coin, false);
         super.setLocation(coinLocation);
-        super.draw(graphics);
+        super.drawAnimation(graphics);
         graphics.drawString("" + coin, coinLocation.x + (int)getWidth() + 1, coinLocation.y + (int)getHeight());
     }
 }
\ No newline at end of file
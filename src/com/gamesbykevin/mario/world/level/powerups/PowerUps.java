@@ -4,6 +4,7 @@ import com.gamesbykevin.framework.resources.Disposable;
 import com.gamesbykevin.framework.util.Timers;
 
 import com.gamesbykevin.mario.effects.Effects;
+import com.gamesbykevin.mario.entity.Entities;
 import com.gamesbykevin.mario.entity.Entity;
 import com.gamesbykevin.mario.heroes.AnimationHelper;
 import com.gamesbykevin.mario.heroes.Hero;
@@ -14,8 +15,6 @@ import com.gamesbykevin.mario.world.level.Level;
 
 import java.awt.Graphics;
 import java.awt.Image;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
 public final class PowerUps implements Disposable
@@ -32,7 +31,7 @@ public final class PowerUps implements Disposable
     private Image image;
     
     //list of powerups
-    private List<PowerUp> powerUps;
+    private Entities<PowerUp> powerUps;
     
     public PowerUps(final Image image)
     {
@@ -40,19 +39,7 @@ public final class PowerUps implements Disposable
         this.image = image;
         
         //create new list
-        this.powerUps = new ArrayList<>();
-    }
-    
-    public void movePowerUps(final double x, final double y)
-    {
-        for (int i = 0; i < powerUps.size(); i++)
-        {
-            //get the current power up
-            PowerUp powerUp = powerUps.get(i);
-            
-            //move back
-            powerUp.setLocation(powerUp.getX() + x, powerUp.getY() + y);
-        }
+        this.powerUps = new Entities<>();
     }
     
     /**
@@ -68,7 +55,7 @@ public final class PowerUps implements Disposable
             PowerUp powerUp = powerUps.get(i);
             
             //check for collision
-            if (entity.getRectangle().intersects(powerUp.getRectangle()))
+            if (entity.overlaps(powerUp))
             {
                 //get the type
                 Type type = powerUp.getType();
@@ -135,13 +122,7 @@ public final class PowerUps implements Disposable
     {
         if (powerUps != null)
         {
-            for (int i = 0; i < powerUps.size(); i++)
-            {
-                powerUps.get(i).dispose();
-                powerUps.set(i, null);
-            }
-            
-            powerUps.clear();
+            powerUps.dispose();
             powerUps = null;
         }
     }
@@ -166,11 +147,11 @@ public final class PowerUps implements Disposable
                         hero.setAnimation(AnimationHelper.getDefaultAnimation(hero), false);
                         hero.setDimensions();
 
-                        Tile south = hero.checkCollisionSouth(level.getTiles());
+                        int south = hero.checkCollisionSouth(level.getTiles());
 
                         //correct mario y location
-                        if (south != null)
-                            hero.setY(south.getY() - hero.getHeight());
+                        if (south != Tiles.NONE)
+                            hero.setY(level.getTiles().getY(south) - hero.getHeight());
                         break;
 
                     case Flower:
@@ -184,8 +165,8 @@ public final class PowerUps implements Disposable
                         south = hero.checkCollisionSouth(level.getTiles());
 
                         //correct mario y location
-                        if (south != null)
-                            hero.setY(south.getY() - hero.getHeight());
+                        if (south != Tiles.NONE)
+                            hero.setY(level.getTiles().getY(south) - hero.getHeight());
                         break;
 
                     case Star:
@@ -217,12 +198,17 @@ public final class PowerUps implements Disposable
         return type;
     }
     
-    public void managePowerupBlock(final Random random, final Tile north, final Level level, final Hero mario)
+    public void managePowerupBlock(final Random random, final int north, final Level level, final Hero mario)
     {
-        level.getTiles().add(Tiles.Type.UsedBlock, north.getCol(), north.getRow(), north.getX(), north.getY());
+        final Tiles tiles = level.getTiles();
+        
+        //check for the power up before the block is replaced
+        final boolean powerUp = tiles.isPowerup(north);
+        
+        tiles.add(Tiles.Type.UsedBlock, tiles.getColumn(north), tiles.getRow(north));
         
         //choose at random if we are to add a power up, that is not a coin
-        if (north.isPowerup())
+        if (powerUp)
         {
             //set audio to play
             mario.setAudioKey((random.nextBoolean()) ? GameAudio.Keys.SfxLevelPowerUpHit1 : GameAudio.Keys.SfxLevelPowerUpHit2);
@@ -234,18 +220,18 @@ public final class PowerUps implements Disposable
                 if (!mario.isBig())
                 {
                     //if not big it will be a mushroom
-                    add(PowerUps.Type.Mushroom, north.getX(), north.getY(), north.getY() - Tile.HEIGHT);
+                    add(PowerUps.Type.Mushroom, tiles.getX(north), tiles.getY(north), tiles.getY(north) - Tile.HEIGHT);
                 }
                 else
                 {
                     //if not big it will be a fire flower
-                    add(PowerUps.Type.Flower, north.getX(), north.getY(), north.getY() - Tile.HEIGHT);
+                    add(PowerUps.Type.Flower, tiles.getX(north), tiles.getY(north), tiles.getY(north) - Tile.HEIGHT);
                 }
             }
             else
             {
                 //choose star
-                add(PowerUps.Type.Star, north.getX(), north.getY(), north.getY() - Tile.HEIGHT);
+                add(PowerUps.Type.Star, tiles.getX(north), tiles.getY(north), tiles.getY(north) - Tile.HEIGHT);
             }
         }
         else
@@ -254,14 +240,14 @@ public final class PowerUps implements Disposable
             mario.setAudioKey(GameAudio.Keys.SfxLevelCoin2);
             
             //need to add animation effect of collecting a coin here
-            level.getEffects().add(north.getX(), north.getY() - north.getHeight(), Effects.Type.CollectCoin);
+            level.getEffects().add(tiles.getX(north), tiles.getY(north) - Tile.HEIGHT, Effects.Type.CollectCoin);
             
             //add to our count
             mario.addCoin();
         }
     }
     
-    public void update(final long time, final double scrollX, final Random random, final Tiles tiles)
+    public void update(final long time, final Random random, final Tiles tiles)
     {
         for (int i = 0; i < powerUps.size(); i++)
         {
@@ -318,16 +304,16 @@ public final class PowerUps implements Disposable
             
                 if (powerUp.hasVelocityX())
                 {
-                    Tile west = powerUp.checkCollisionWest(tiles);
-                    Tile east = powerUp.checkCollisionEast(tiles);
+                    int west = powerUp.checkCollisionWest(tiles);
+                    int east = powerUp.checkCollisionEast(tiles);
 
-                    if (west != null)
+                    if (west != Tiles.NONE)
                     {
                         if (powerUp.getVelocityX() < 0)
                             powerUp.setVelocityX(-powerUp.getVelocityX());
                     }
 
-                    if (east != null)
+                    if (east != Tiles.NONE)
                     {
                         if (powerUp.getVelocityX() > 0)
                             powerUp.setVelocityX(-powerUp.getVelocityX());
@@ -342,29 +328,26 @@ public final class PowerUps implements Disposable
                         //make sure we are also jumping
                         if (powerUp.isJumping())
                         {
-                            Tile north = powerUp.checkCollisionNorth(tiles);
+                            int north = powerUp.checkCollisionNorth(tiles);
                             
                             //if we hit a north tile
-                            if (north != null)
-                                powerUp.setY(north.getY() + north.getHeight());
+                            if (north != Tiles.NONE)
+                                powerUp.setY(tiles.getY(north) + Tile.HEIGHT);
                         }
                     }
                     
                     //make sure we are falling before checking south tile
                     if (powerUp.getVelocityY() > 0)
                     {
-                        Tile south = powerUp.checkCollisionSouth(tiles);
+                        int south = powerUp.checkCollisionSouth(tiles);
 
                         //if we hit a south tile and are jumping, we should stop
-                        if (south != null && powerUp.isJumping())
+                        if (south != Tiles.NONE && powerUp.isJumping())
                             powerUp.stopJump();
                     }
                 }
             }
             
-            //update location based on scrolling
-            powerUp.setX(powerUp.getX() + scrollX);
-            
             //the coin is the only powerup that can't move
             switch (powerUp.getType())
             {
@@ -386,7 +369,7 @@ public final class PowerUps implements Disposable
         //draw all of the power ups
         for (int i = 0; i < powerUps.size(); i++)
         {
-            powerUps.get(i).draw(graphics, image);
+            powerUps.get(i).drawAnimation(graphics, image);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.gamesbykevin.mario.world.level.tiles;
+
+/**
+ * Notified when a tile is added or removed after the tiles are created, for example a brick broken by the hero.<br>
+ * This lets anything created from the tiles update only the cell that changed.
+ * @author GOD
+ */
+public interface ITileListener
+{
+    /**
+     * The tile in the cell was added, replaced, or removed
+     * @param tiles The tiles that changed
+     * @param column The column of the cell
+     * @param row The row of the cell
+     */
+    public void tileChanged(final Tiles tiles, final int column, final int row);
+}
\ No newline at end of file
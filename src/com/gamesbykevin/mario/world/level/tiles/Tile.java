@@ -1,39 +1,58 @@
 package com.gamesbykevin.mario.world.level.tiles;
 
-import com.gamesbykevin.framework.resources.Disposable;
-
-import com.gamesbykevin.mario.entity.Entity;
 import com.gamesbykevin.mario.world.level.tiles.Tiles.Type;
 
-public final class Tile extends Entity implements Disposable
+import java.awt.Graphics;
+import java.awt.Image;
+
+/**
+ * A tile is shared by every cell of the same type in the level.<br>
+ * The cells only store the type and flags, the animation is stored here so all tiles of the same type animate together.
+ * @author GOD
+ */
+public final class Tile
 {
     //what type of tile is this
-    private Type type;
+    private final Type type;
+    
+    //number of animation frames
+    private final int count;
+    
+    //the time delay between each frame (nano-seconds)
+    private final long delay;
     
-    //will collision with this tile cause damage
-    private boolean damage = false;
+    //does the animation loop
+    private final boolean loop;
     
-    //will collision with this tile cause instant death
-    private boolean death = false;
+    //location of the first animation frame on the sprite sheet
+    private final int startX, startY;
     
-    //does this tile contain a powerup
-    private boolean powerUp = false;
+    //the current animation frame
+    private int frame = 0;
     
-    //do we check for collision
-    private boolean solid;
+    //the time passed on the current animation frame
+    private long elapsed = 0;
     
     public static final int WIDTH = 16;
     public static final int HEIGHT = 16;
     
-    public Tile(final Type type)
+    /**
+     * Create a new tile
+     * @param type The type of tile
+     * @param count Number of animation frames
+     * @param delay The time delay between each frame (nano-seconds)
+     * @param loop Do we loop the animation
+     * @param startX The x-coordinate of the first frame on the sprite sheet
+     * @param startY The y-coordinate of the first frame on the sprite sheet
+     */
+    public Tile(final Type type, final int count, final long delay, final boolean loop, final int startX, final int startY)
     {
-        super.setDimensions(WIDTH, HEIGHT);
-        
         this.type = type;
-        
-        this.setDamage(type.hasDamage());
-        this.setSolid(type.isSolid());
-        this.setDeath(type.hasDeath());
+        this.count = count;
+        this.delay = delay;
+        this.loop = loop;
+        this.startX = startX;
+        this.startY = startY;
     }
     
     public Type getType()
@@ -41,49 +60,62 @@ public final class Tile extends Entity implements Disposable
         return this.type;
     }
     
-    public void setPowerup(final boolean powerUp)
-    {
-        this.powerUp = powerUp;
-    }
-    
-    public boolean isPowerup()
+    /**
+     * Does this tile have an animation to update
+     * @return true if there is more than 1 frame, false otherwise
+     */
+    public boolean isAnimated()
     {
-        return this.powerUp;
+        return (count > 1 && delay > 0);
     }
     
-    protected void setDamage(final boolean damage)
+    /**
+     * Update the animation
+     * @param time Time to deduct (nano-seconds)
+     */
+    public void update(final long time)
     {
-        this.damage = damage;
-    }
-    
-    public boolean hasDamage()
-    {
-        return this.damage;
-    }
-    
-    protected void setDeath(final boolean death)
-    {
-        this.death = death;
-    }
-    
-    public boolean hasDeath()
-    {
-        return this.death;
-    }
-    
-    protected void setSolid(final boolean solid)
-    {
-        this.solid = solid;
-    }
-    
-    public boolean isSolid()
-    {
-        return this.solid;
+        //there is nothing to update if there is only 1 frame
+        if (!isAnimated())
+            return;
+        
+        //add the time passed
+        elapsed += time;
+        
+        while (elapsed >= delay)
+        {
+            //remove the time for this frame
+            elapsed -= delay;
+            
+            if (frame < count - 1)
+            {
+                //move to the next frame
+                frame++;
+            }
+            else if (loop)
+            {
+                //start the animation over
+                frame = 0;
+            }
+        }
     }
     
-    @Override
-    public void dispose()
+    /**
+     * Draw a cell of this tile
+     * @param graphics Object where images will be written
+     * @param image The sprite sheet containing all tiles
+     * @param x x-coordinate where the cell will be drawn
+     * @param y y-coordinate where the cell will be drawn
+     * @param partCol The column of the cell within this tile (tiles can be multiple columns wide)
+     * @param partRow The row of the cell within this tile (tiles can be multiple rows tall)
+     */
+    public void draw(final Graphics graphics, final Image image, final int x, final int y, final int partCol, final int partRow)
     {
-        super.dispose();
+        //locate the cell on the sprite sheet
+        final int sourceX = startX + ((frame + partCol) * WIDTH);
+        final int sourceY = startY + (partRow * HEIGHT);
+        
+        //draw the cell
+        graphics.drawImage(image, x, y, x + WIDTH, y + HEIGHT, sourceX, sourceY, sourceX + WIDTH, sourceY + HEIGHT, null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,410 @@
+package com.gamesbykevin.mario.world.level.tiles;
+
+import com.gamesbykevin.framework.resources.Disposable;
+
+import com.gamesbykevin.mario.resources.ImageHelper;
+import com.gamesbykevin.mario.world.level.Level;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache of the static tiles drawn into images, 1 screen of columns per chunk.<br>
+ * A chunk is created the first time it is on screen, and the chunks not drawn recently are removed once there are too many.<br>
+ * The animated tiles are not part of the image so they are drawn on their own every frame.<br>
+ * When a tile changes the cell is marked dirty, and only that cell is drawn again before the chunk is drawn next.
+ * @author GOD
+ */
+final class TileChunks implements Disposable, ITileListener
+{
+    //the number of columns in each chunk
+    protected static final int CHUNK_COLUMNS = Level.LEVEL_COLUMNS_PER_SCREEN;
+    
+    //the width of each chunk
+    protected static final int CHUNK_WIDTH = CHUNK_COLUMNS * Tile.WIDTH;
+    
+    //the most chunks we will keep
+    private static final int MAX_CHUNKS = 3;
+    
+    //the layers of each chunk
+    private static final int LAYER_SOLID = 0;
+    private static final int LAYER_SCENERY = 1;
+    
+    /**
+     * The images and animated cells of 1 chunk
+     */
+    private static final class Chunk
+    {
+        //the index of the chunk
+        private final int index;
+        
+        //the static tiles of each layer
+        private final BufferedImage[] images = new BufferedImage[2];
+        
+        //the first row in the image of each layer
+        private final int[] rows = new int[2];
+        
+        //the animated cells of each layer
+        private final int[][] animated = new int[2][];
+        
+        //the cells changed since the images were drawn
+        private int[] dirty = new int[4];
+        
+        //the number of dirty cells
+        private int dirtyCount = 0;
+        
+        private Chunk(final int index)
+        {
+            this.index = index;
+        }
+    }
+    
+    //the tiles we are caching
+    private final Tiles tiles;
+    
+    //the chunks created, the chunk drawn last is at the end
+    private final LinkedHashMap<Integer, Chunk> chunks;
+    
+    protected TileChunks(final Tiles tiles)
+    {
+        this.tiles = tiles;
+        
+        //access order so the least recently drawn chunk is first
+        this.chunks = new LinkedHashMap<Integer, Chunk>(MAX_CHUNKS + 1, 1f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, Chunk> eldest)
+            {
+                if (size() <= MAX_CHUNKS)
+                    return false;
+                
+                //release the images of the chunk we are removing
+                flush(eldest.getValue());
+                return true;
+            }
+        };
+    }
+    
+    /**
+     * Get the number of chunks currently cached
+     * @return The number of chunks
+     */
+    protected int size()
+    {
+        return chunks.size();
+    }
+    
+    /**
+     * Mark the cell dirty in the chunk containing it, if the chunk has not been created nothing needs to be done
+     * @param tiles The tiles that changed
+     * @param column The column of the cell
+     * @param row The row of the cell
+     */
+    @Override
+    public void tileChanged(final Tiles tiles, final int column, final int row)
+    {
+        //nothing has been drawn yet
+        if (chunks.isEmpty())
+            return;
+        
+        //look through the few chunks instead of get, so the order the chunks were drawn isn't changed
+        for (Chunk chunk : chunks.values())
+        {
+            if (chunk.index != column / CHUNK_COLUMNS)
+                continue;
+            
+            //make room if we are full
+            if (chunk.dirtyCount == chunk.dirty.length)
+                chunk.dirty = Arrays.copyOf(chunk.dirty, chunk.dirtyCount * 2);
+            
+            chunk.dirty[chunk.dirtyCount++] = (row * tiles.getColumns()) + column;
+            return;
+        }
+    }
+    
+    /**
+     * Draw the chunks of 1 layer that are inside the range
+     * @param graphics Object where images will be written
+     * @param startCol The first column on screen
+     * @param endCol The last column on screen
+     * @param scenery true to render the background/cloud tiles, false to render all other tiles
+     */
+    protected void render(final Graphics graphics, final int startCol, final int endCol, final boolean scenery)
+    {
+        final int layer = (scenery) ? LAYER_SCENERY : LAYER_SOLID;
+        
+        for (int index = startCol / CHUNK_COLUMNS; index <= endCol / CHUNK_COLUMNS; index++)
+        {
+            final Chunk chunk = getChunk(index);
+            
+            //draw the static tiles at once
+            if (chunk.images[layer] != null)
+                graphics.drawImage(chunk.images[layer], (int)tiles.getOriginX() + (index * CHUNK_WIDTH), (int)tiles.getOriginY() + (chunk.rows[layer] * Tile.HEIGHT), null);
+            
+            //then draw the animated tiles on top
+            for (int i = 0; i < chunk.animated[layer].length; i++)
+            {
+                final int cell = chunk.animated[layer][i];
+                
+                //skip the cells that are not on screen
+                if (tiles.getColumn(cell) < startCol || tiles.getColumn(cell) > endCol)
+                    continue;
+                
+                tiles.renderTile(cell, graphics, (int)tiles.getX(cell), (int)tiles.getY(cell));
+            }
+        }
+    }
+    
+    /**
+     * Get the chunk, if the chunk does not exist it will be created
+     * @param index The index of the chunk
+     * @return The chunk
+     */
+    private Chunk getChunk(final int index)
+    {
+        Chunk chunk = chunks.get(index);
+        
+        //draw the changed cells, if a cell can't be drawn in place the chunk is created again
+        if (chunk != null && chunk.dirtyCount > 0 && !patch(chunk))
+        {
+            flush(chunk);
+            chunk = null;
+        }
+        
+        if (chunk == null)
+        {
+            chunk = create(index);
+            chunks.put(index, chunk);
+        }
+        
+        return chunk;
+    }
+    
+    /**
+     * Draw the static tiles of the chunk into an image for each layer, and find the animated cells
+     * @param index The index of the chunk
+     * @return The new chunk
+     */
+    private Chunk create(final int index)
+    {
+        final Chunk chunk = new Chunk(index);
+        
+        final int startCol = index * CHUNK_COLUMNS;
+        final int endCol = Math.min(tiles.getColumns(), startCol + CHUNK_COLUMNS);
+        
+        //the animated cells found for each layer
+        final int[][] animated = new int[2][CHUNK_COLUMNS * tiles.getRows()];
+        final int[] count = new int[2];
+        
+        //the first and last row with a tile in each layer, so the images don't include empty rows
+        //the animated tiles are included since they can be replaced with a static tile
+        final int[] firstRow = {tiles.getRows(), tiles.getRows()};
+        final int[] lastRow = {-1, -1};
+        
+        for (int row = 0; row < tiles.getRows(); row++)
+        {
+            for (int col = startCol; col < endCol; col++)
+            {
+                final int cell = tiles.getCell(col, row);
+                
+                if (cell == Tiles.NONE)
+                    continue;
+                
+                final int layer = (tiles.isScenery(cell)) ? LAYER_SCENERY : LAYER_SOLID;
+                
+                firstRow[layer] = Math.min(firstRow[layer], row);
+                lastRow[layer] = Math.max(lastRow[layer], row);
+            }
+        }
+        
+        final Graphics[] graphics = new Graphics[2];
+        
+        for (int layer = 0; layer < 2; layer++)
+        {
+            //create an image if the layer has any tiles
+            if (lastRow[layer] >= 0)
+            {
+                chunk.images[layer] = ImageHelper.createImage(CHUNK_WIDTH, (lastRow[layer] - firstRow[layer] + 1) * Tile.HEIGHT, Transparency.TRANSLUCENT);
+                chunk.rows[layer] = firstRow[layer];
+                graphics[layer] = chunk.images[layer].createGraphics();
+            }
+        }
+        
+        for (int row = 0; row < tiles.getRows(); row++)
+        {
+            for (int col = startCol; col < endCol; col++)
+            {
+                final int cell = tiles.getCell(col, row);
+                
+                //if there is no tile here skip
+                if (cell == Tiles.NONE)
+                    continue;
+                
+                final int layer = (tiles.isScenery(cell)) ? LAYER_SCENERY : LAYER_SOLID;
+                
+                //animated tiles are drawn every frame
+                if (tiles.isAnimated(cell))
+                {
+                    animated[layer][count[layer]++] = cell;
+                    continue;
+                }
+                
+                //draw the tile relative to the chunk
+                tiles.renderTile(cell, graphics[layer], (col - startCol) * Tile.WIDTH, (row - firstRow[layer]) * Tile.HEIGHT);
+            }
+        }
+        
+        for (int layer = 0; layer < 2; layer++)
+        {
+            if (graphics[layer] != null)
+                graphics[layer].dispose();
+            
+            chunk.animated[layer] = Arrays.copyOf(animated[layer], count[layer]);
+        }
+        
+        return chunk;
+    }
+    
+    /**
+     * Draw the dirty cells of the chunk again.<br>
+     * Each cell is cleared from the images, then the tile now in the cell is drawn or added to the animated cells.
+     * @param chunk The chunk with dirty cells
+     * @return true if every cell was updated, false if a static tile is outside the rows of the image and the chunk has to be created again
+     */
+    private boolean patch(final Chunk chunk)
+    {
+        final Graphics2D[] graphics = new Graphics2D[2];
+        
+        boolean result = true;
+        
+        for (int i = 0; i < chunk.dirtyCount; i++)
+        {
+            final int cell = chunk.dirty[i];
+            final int col = tiles.getColumn(cell);
+            final int row = tiles.getRow(cell);
+            
+            //the location of the cell in the images
+            final int x = (col % CHUNK_COLUMNS) * Tile.WIDTH;
+            
+            for (int layer = 0; layer < 2; layer++)
+            {
+                //the cell is no longer animated
+                chunk.animated[layer] = remove(chunk.animated[layer], cell);
+                
+                //clear the cell from the image
+                if (hasRow(chunk, layer, row))
+                {
+                    if (graphics[layer] == null)
+                        graphics[layer] = chunk.images[layer].createGraphics();
+                    
+                    graphics[layer].setComposite(AlphaComposite.Clear);
+                    graphics[layer].fillRect(x, (row - chunk.rows[layer]) * Tile.HEIGHT, Tile.WIDTH, Tile.HEIGHT);
+                }
+            }
+            
+            //the tile was removed
+            if (!tiles.hasTile(col, row))
+                continue;
+            
+            final int layer = (tiles.isScenery(cell)) ? LAYER_SCENERY : LAYER_SOLID;
+            
+            if (tiles.isAnimated(cell))
+            {
+                //animated tiles are drawn every frame
+                chunk.animated[layer] = Arrays.copyOf(chunk.animated[layer], chunk.animated[layer].length + 1);
+                chunk.animated[layer][chunk.animated[layer].length - 1] = cell;
+            }
+            else if (hasRow(chunk, layer, row))
+            {
+                //draw the new tile in place
+                graphics[layer].setComposite(AlphaComposite.SrcOver);
+                tiles.renderTile(cell, graphics[layer], x, (row - chunk.rows[layer]) * Tile.HEIGHT);
+            }
+            else
+            {
+                //the image does not have room for this row
+                result = false;
+                break;
+            }
+        }
+        
+        for (int layer = 0; layer < 2; layer++)
+        {
+            if (graphics[layer] != null)
+                graphics[layer].dispose();
+        }
+        
+        chunk.dirtyCount = 0;
+        
+        return result;
+    }
+    
+    /**
+     * Does the image of the layer include the row
+     * @param chunk The chunk
+     * @param layer The layer of the chunk
+     * @param row The row we are checking
+     * @return true if the image exists and the row is inside of it, false otherwise
+     */
+    private static boolean hasRow(final Chunk chunk, final int layer, final int row)
+    {
+        if (chunk.images[layer] == null)
+            return false;
+        
+        return (row >= chunk.rows[layer] && row < chunk.rows[layer] + (chunk.images[layer].getHeight() / Tile.HEIGHT));
+    }
+    
+    /**
+     * Remove the cell from the array
+     * @param cells The array of cells
+     * @param cell The cell to remove
+     * @return The array without the cell, the same array is returned if the cell was not found
+     */
+    private static int[] remove(final int[] cells, final int cell)
+    {
+        for (int i = 0; i < cells.length; i++)
+        {
+            if (cells[i] == cell)
+            {
+                final int[] result = Arrays.copyOf(cells, cells.length - 1);
+                System.arraycopy(cells, i + 1, result, i, cells.length - i - 1);
+                return result;
+            }
+        }
+        
+        return cells;
+    }
+    
+    /**
+     * Release the images of the chunk
+     * @param chunk The chunk no longer cached
+     */
+    private static void flush(final Chunk chunk)
+    {
+        for (int layer = 0; layer < 2; layer++)
+        {
+            if (chunk.images[layer] != null)
+            {
+                chunk.images[layer].flush();
+                chunk.images[layer] = null;
+            }
+        }
+    }
+    
+    @Override
+    public void dispose()
+    {
+        for (Chunk chunk : chunks.values())
+        {
+            flush(chunk);
+        }
+        
+        chunks.clear();
+    }
+}
\ No newline at end of file
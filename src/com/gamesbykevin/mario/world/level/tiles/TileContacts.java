@@ -0,0 +1,190 @@
+package com.gamesbykevin.mario.world.level.tiles;
+
+/**
+ * The solid tiles touching each side of an area.<br>
+ * Each side is only checked the first time it is needed, and the result is kept until the area moves or a tile changes.
+ * This way a side that is never needed costs nothing, and a side needed more than once is only checked once.
+ * @author GOD
+ */
+public final class TileContacts
+{
+    //the sides of the area
+    static final int SOUTH = (1 << 0);
+    static final int NORTH = (1 << 1);
+    static final int WEST = (1 << 2);
+    static final int NORTH_WEST = (1 << 3);
+    static final int EAST = (1 << 4);
+    static final int NORTH_EAST = (1 << 5);
+    static final int GROUND = (1 << 6);
+    
+    //the solid cell touching each side, Tiles.NONE if there is no solid tile
+    private int south, north, west, east, northWest, northEast;
+    
+    //the solid cell below the middle of the south side
+    private int ground;
+    
+    //how far below the south side the ground was checked
+    private double groundDistance;
+    
+    //the sides that have been checked
+    private int checked;
+    
+    //the tiles that were checked
+    Tiles tiles;
+    
+    //the version of the tiles when checked
+    private int version;
+    
+    //the area that was checked
+    private double x, y, width, height;
+    
+    public TileContacts()
+    {
+        //nothing has been checked yet
+        this.tiles = null;
+    }
+    
+    /**
+     * Were the contacts found for this area and the current state of the tiles
+     * @param tiles The tiles we want to check
+     * @param x x-coordinate of the area
+     * @param y y-coordinate of the area
+     * @param width The width of the area
+     * @param height The height of the area
+     * @return true if the contacts are still correct, false if they need to be found again
+     */
+    boolean isCurrent(final Tiles tiles, final double x, final double y, final double width, final double height)
+    {
+        return (this.tiles == tiles && this.version == tiles.getVersion() &&
+                this.x == x && this.y == y && this.width == width && this.height == height);
+    }
+    
+    /**
+     * Start over with a new area, no side is checked until it is needed
+     * @param tiles The tiles we want to check
+     * @param x x-coordinate of the area
+     * @param y y-coordinate of the area
+     * @param width The width of the area
+     * @param height The height of the area
+     */
+    void reset(final Tiles tiles, final double x, final double y, final double width, final double height)
+    {
+        this.tiles = tiles;
+        this.version = tiles.getVersion();
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.checked = 0;
+    }
+    
+    /**
+     * Has the side already been checked, if not it will be marked as checked
+     * @param side The side
+     * @return true if the result of the side is already known, false if it needs to be checked
+     */
+    private boolean isChecked(final int side)
+    {
+        //a tile has changed since the sides were checked
+        if (tiles.getVersion() != version)
+        {
+            version = tiles.getVersion();
+            checked = 0;
+        }
+        
+        if ((checked & side) != 0)
+            return true;
+        
+        checked |= side;
+        return false;
+    }
+    
+    /**
+     * Get the solid tile below
+     * @return The cell, if there is no solid tile Tiles.NONE is returned
+     */
+    public int getSouth()
+    {
+        if (!isChecked(SOUTH))
+            south = tiles.getContact(SOUTH, x, y, width, height);
+        
+        return this.south;
+    }
+    
+    /**
+     * Get the solid tile above
+     * @return The cell, if there is no solid tile Tiles.NONE is returned
+     */
+    public int getNorth()
+    {
+        if (!isChecked(NORTH))
+            north = tiles.getContact(NORTH, x, y, width, height);
+        
+        return this.north;
+    }
+    
+    /**
+     * Get the solid tile to the west
+     * @return The cell, if there is no solid tile Tiles.NONE is returned
+     */
+    public int getWest()
+    {
+        if (!isChecked(WEST))
+            west = tiles.getContact(WEST, x, y, width, height);
+        
+        return this.west;
+    }
+    
+    /**
+     * Get the solid tile to the east
+     * @return The cell, if there is no solid tile Tiles.NONE is returned
+     */
+    public int getEast()
+    {
+        if (!isChecked(EAST))
+            east = tiles.getContact(EAST, x, y, width, height);
+        
+        return this.east;
+    }
+    
+    /**
+     * Get the solid tile to the north-west
+     * @return The cell, if there is no solid tile Tiles.NONE is returned
+     */
+    public int getNorthWest()
+    {
+        if (!isChecked(NORTH_WEST))
+            northWest = tiles.getContact(NORTH_WEST, x, y, width, height);
+        
+        return this.northWest;
+    }
+    
+    /**
+     * Get the solid tile to the north-east
+     * @return The cell, if there is no solid tile Tiles.NONE is returned
+     */
+    public int getNorthEast()
+    {
+        if (!isChecked(NORTH_EAST))
+            northEast = tiles.getContact(NORTH_EAST, x, y, width, height);
+        
+        return this.northEast;
+    }
+    
+    /**
+     * Get the solid tile below the middle of the south side, this is used to check if the area should fall
+     * @param distance How far below the south side to check
+     * @return The cell, if there is no solid tile Tiles.NONE is returned
+     */
+    public int getGround(final double distance)
+    {
+        //the ground is checked again if the distance is different
+        if (!isChecked(GROUND) || groundDistance != distance)
+        {
+            ground = tiles.getGround(x, y, width, height, distance);
+            groundDistance = distance;
+        }
+        
+        return this.ground;
+    }
+}
\ No newline at end of file
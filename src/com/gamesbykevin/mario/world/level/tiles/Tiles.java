@@ -9,16 +9,56 @@ import com.gamesbykevin.mario.world.level.LevelCreatorHelper;
 import java.awt.Graphics;
 import java.awt.Image;
 import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 
 public final class Tiles implements Disposable
 {
-    //array of tiles in the level
-    private Tile[][] tiles;
+    //the type of tile in each cell of the level
+    private short[][] types;
+    
+    //the flags for each cell of the level
+    private byte[][] flags;
+    
+    //which part of the tile each cell is, since a tile can take multiple cols/rows
+    private byte[][] parts;
+    
+    //does each column have a tile in the floor row
+    private boolean[] floor;
+    
+    //the tiles shared by every cell of the same type
+    private Tile[] tiles;
+    
+    //the shared tiles that have an animation to update
+    private Tile[] animated;
     
     //the image containing all tiles
     private Image image;
     
+    //changed every time a tile is added or removed
+    private int version = 0;
+    
+    //the static tiles drawn ahead of time
+    private TileChunks chunks;
+    
+    //notified every time a tile is added or removed
+    private final List<ITileListener> listeners = new ArrayList<>();
+    
+    //value returned when no cell is found
+    public static final int NONE = -1;
+    
+    //the type value of a cell without a tile
+    private static final short EMPTY = -1;
+    
+    //the flags that can be set for a cell
+    private static final byte FLAG_SOLID = 1 << 0;
+    private static final byte FLAG_DAMAGE = 1 << 1;
+    private static final byte FLAG_DEATH = 1 << 2;
+    private static final byte FLAG_POWERUP = 1 << 3;
+    private static final byte FLAG_SCENERY = 1 << 4;
+    
     public enum Type
     {
         Empty(1,1,false,false,false), 
@@ -93,6 +133,9 @@ public final class Tiles implements Disposable
         
         private int col, row;
         private boolean solid, damage, death;
+        
+        //cache the values so we don't create a new array every lookup
+        private static final Type[] VALUES = values();
         /**
          * The constant type
          * @param col How many columns wide of this tile type
@@ -132,95 +175,569 @@ public final class Tiles implements Disposable
         {
             return this.row;
         }
+        
+        /**
+         * Get the type from the value stored in the cell array
+         * @param ordinal The ordinal of the type
+         * @return The type
+         */
+        private static Type get(final int ordinal)
+        {
+            return VALUES[ordinal];
+        }
     }
     
     public Tiles(final int columns, final int rows, final Image image)
     {
-        //create new array of tiles
-        this.tiles = new Tile[rows][columns];
+        //create new arrays for the cells
+        this.types = new short[rows][columns];
+        this.flags = new byte[rows][columns];
+        this.parts = new byte[rows][columns];
+        this.floor = new boolean[columns];
+        
+        //there are no tiles at first
+        for (int row = 0; row < rows; row++)
+        {
+            Arrays.fill(this.types[row], EMPTY);
+        }
+        
+        //create the shared tile for each type
+        this.tiles = new Tile[Type.VALUES.length];
+        
+        //how many tiles are animated
+        int count = 0;
+        
+        for (int i = 0; i < Type.VALUES.length; i++)
+        {
+            this.tiles[i] = create(Type.VALUES[i]);
+            
+            if (this.tiles[i] != null && this.tiles[i].isAnimated())
+                count++;
+        }
+        
+        //keep track of the animated tiles so static tiles are never updated
+        this.animated = new Tile[count];
+        
+        for (int i = 0, index = 0; i < tiles.length; i++)
+        {
+            if (this.tiles[i] != null && this.tiles[i].isAnimated())
+                this.animated[index++] = this.tiles[i];
+        }
         
         //set the tile sheet
         this.image = image;
+        
+        //the chunks are created as they are drawn
+        this.chunks = new TileChunks(this);
+        
+        //the chunks need to know when a tile changes
+        addListener(chunks);
+    }
+    
+    /**
+     * Add a listener to be notified every time a tile is added or removed
+     * @param listener The listener to add
+     */
+    public void addListener(final ITileListener listener)
+    {
+        if (!listeners.contains(listener))
+            listeners.add(listener);
+    }
+    
+    /**
+     * Stop notifying the listener
+     * @param listener The listener to remove
+     */
+    public void removeListener(final ITileListener listener)
+    {
+        listeners.remove(listener);
+    }
+    
+    /**
+     * Notify the listeners the tile in the cell changed
+     * @param column The column of the cell
+     * @param row The row of the cell
+     */
+    private void notifyListeners(final int column, final int row)
+    {
+        for (int i = 0; i < listeners.size(); i++)
+        {
+            listeners.get(i).tileChanged(this, column, row);
+        }
+    }
+    
+    /**
+     * Update the animation of the tiles.<br>
+     * Every cell of the same type shares 1 animation, so only the animated types are updated.
+     * @param time Time to deduct (nano-seconds)
+     */
+    public void update(final long time)
+    {
+        for (int i = 0; i < animated.length; i++)
+        {
+            //update animation
+            animated[i].update(time);
+        }
+    }
+    
+    /**
+     * Get the cell that is found at the specified (x,y) location.<br>
+     * The column/row is calculated from the coordinate so we don't have to check every tile.<br>
+     * If the coordinate is on the edge of 2 tiles, the tile to the north/west is checked first.
+     * @param x x-coordinate
+     * @param y y-coordinate
+     * @return The cell with a tile at the x,y location, if nothing is found NONE is returned
+     */
+    public int getCell(final double x, final double y)
+    {
+        //determine the location relative to the north-west corner of the tiles
+        final double column = (x - getOriginX()) / Tile.WIDTH;
+        final double row = (y - getOriginY()) / Tile.HEIGHT;
+        
+        //the column/row the coordinate is inside
+        final int col = (int)Math.floor(column);
+        final int r = (int)Math.floor(row);
+        
+        //if the coordinate is on the edge, the previous column/row also contains this coordinate
+        final int startCol = (column == col) ? col - 1 : col;
+        final int startRow = (row == r) ? r - 1 : r;
+        
+        return getCell(startCol, col, startRow, r, false);
     }
     
-    public void update(final long time, final double scrollX)
+    /**
+     * Get the first cell with a tile in the range of columns/rows, checked from north-west to south-east
+     * @param startCol The first column
+     * @param col The last column
+     * @param startRow The first row
+     * @param r The last row
+     * @param solid If true NONE is returned when the tile found is not solid
+     * @return The cell with a tile, if nothing is found NONE is returned
+     */
+    private int getCell(final int startCol, final int col, final int startRow, final int r, final boolean solid)
     {
-        for (int row = 0; row < tiles.length; row++)
+        for (int tmpRow = startRow; tmpRow <= r; tmpRow++)
         {
-            for (int col = 0; col < tiles[row].length; col++)
+            //skip if out of bounds
+            if (tmpRow < 0 || tmpRow >= getRows())
+                continue;
+            
+            for (int tmpCol = startCol; tmpCol <= col; tmpCol++)
             {
+                //skip if out of bounds
+                if (tmpCol < 0 || tmpCol >= getColumns())
+                    continue;
+                
                 //if there is no tile here skip
-                if (!hasTile(col, row))
+                if (!hasTile(tmpCol, tmpRow))
                     continue;
                 
-                Tile tile = getTile(col, row);
+                //only the first tile found is checked for solid
+                if (solid && !hasFlag(tmpCol, tmpRow, FLAG_SOLID))
+                    return NONE;
+                
+                //we found a tile at the location
+                return (tmpRow * getColumns()) + tmpCol;
+            }
+        }
+        
+        return NONE;
+    }
+    
+    /**
+     * Get the solid tiles touching each side of the area.<br>
+     * The same points are checked as the collision checks of each side, each side is only checked once it is needed.<br>
+     * If the area and tiles have not changed since the last time, the sides already checked are not checked again.
+     * @param x x-coordinate of the area
+     * @param y y-coordinate of the area
+     * @param width The width of the area
+     * @param height The height of the area
+     * @param contacts Object where the contacts will be stored
+     * @return The contacts of the area
+     */
+    public TileContacts getContacts(final double x, final double y, final double width, final double height, final TileContacts contacts)
+    {
+        //if the area moved or a tile changed, the sides need to be checked again
+        if (!contacts.isCurrent(this, x, y, width, height))
+            contacts.reset(this, x, y, width, height);
+        
+        return contacts;
+    }
+    
+    /**
+     * Find the solid tile touching 1 side of the area
+     * @param side The side of the area, see TileContacts
+     * @param x x-coordinate of the area
+     * @param y y-coordinate of the area
+     * @param width The width of the area
+     * @param height The height of the area
+     * @return The solid cell, if nothing is found NONE is returned
+     */
+    int getContact(final int side, final double x, final double y, final double width, final double height)
+    {
+        switch (side)
+        {
+            //the points across the north and south sides
+            case TileContacts.SOUTH:
+                return getSolidCell(x + (width / 2), y + height, (int)(width / 4));
+                
+            case TileContacts.NORTH:
+                return getSolidCell(x + (width / 2), y, (int)(width / 4));
                 
-                //update animation
-                tile.update(time);
+            //the points on the west and east sides
+            case TileContacts.WEST:
+                return getSolidCell(x, y + (height / 2), 0);
                 
-                //set velocity
-                tile.setVelocityX(scrollX);
+            case TileContacts.NORTH_WEST:
+                return getSolidCell(x, y + (height / 4), 0);
                 
-                //move tile if velocity set
-                tile.update();
-            }
+            case TileContacts.EAST:
+                return getSolidCell(x + width, y + (height / 2), 0);
+                
+            case TileContacts.NORTH_EAST:
+                return getSolidCell(x + width, y + (height / 4), 0);
+                
+            default:
+                return NONE;
         }
     }
     
-    public void moveTiles(final double x, final double y)
+    /**
+     * Find the solid tile at the middle of the south side once the area is moved down
+     * @param x x-coordinate of the area
+     * @param y y-coordinate of the area
+     * @param width The width of the area
+     * @param height The height of the area
+     * @param distance How far the area is moved down
+     * @return The solid cell, if there is no tile or the tile is not solid NONE is returned
+     */
+    int getGround(final double x, final double y, final double width, final double height, final double distance)
+    {
+        return getSolidCell(x + (width / 2), (y + distance) + height, 0);
+    }
+    
+    /**
+     * Check each point in a horizontal line for a solid tile, the same way getCell(x, y) checks a single point
+     * @param x x-coordinate of the middle point
+     * @param y y-coordinate of every point
+     * @param range The number of points on each side of the middle, 1 pixel apart
+     * @return The first solid cell found from west to east, if nothing is found NONE is returned
+     */
+    private int getSolidCell(final double x, final double y, final int range)
     {
-        for (int row = 0; row < tiles.length; row++)
+        //the row is the same for every point
+        final double row = (y - getOriginY()) / Tile.HEIGHT;
+        final int r = (int)Math.floor(row);
+        final int startRow = (row == r) ? r - 1 : r;
+        
+        //the first and last point
+        final double first = (x - range - getOriginX()) / Tile.WIDTH;
+        final double last = (x + range - getOriginX()) / Tile.WIDTH;
+        
+        //if the points are all inside the same column and not on the edge, only 1 point needs to be checked
+        if (Math.floor(first) == Math.floor(last) && first != Math.floor(first))
         {
-            for (int col = 0; col < tiles[row].length; col++)
-            {
-                if (hasTile(col, row))
-                {
-                    Tile tile = this.getTile(col, row);
-                    tile.setLocation(tile.getX() + x, tile.getY() + y);
-                }
-            }
+            final int col = (int)Math.floor(first);
+            
+            return getCell(col, col, startRow, r, true);
+        }
+        
+        //the columns of the previous point
+        int previousStart = 0, previousCol = -1;
+        
+        for (int i = -range; i <= range; i++)
+        {
+            final double column = (x + i - getOriginX()) / Tile.WIDTH;
+            final int col = (int)Math.floor(column);
+            final int startCol = (column == col) ? col - 1 : col;
+            
+            //the result will be the same if the previous point is in the same columns
+            if (startCol == previousStart && col == previousCol)
+                continue;
+            
+            previousStart = startCol;
+            previousCol = col;
+            
+            final int cell = getCell(startCol, col, startRow, r, true);
+            
+            if (cell != NONE)
+                return cell;
         }
+        
+        return NONE;
     }
     
     /**
-     * Get the tile that is found at the specified (x,y) location
-     * @param x x-coordinate
-     * @param y y-coordinate
-     * @return Tile tile that exists at the x,y location, if nothing is found null is returned
+     * Get the version of the tiles, this changes every time a tile is added or removed
+     * @return The version
+     */
+    public int getVersion()
+    {
+        return this.version;
+    }
+    
+    /**
+     * Get the first solid cell an area runs into while moving.<br>
+     * Every cell the moving area passes over is checked, so a fast move can't skip over a tile.<br>
+     * Cells the area already overlaps at the start of the move are ignored.
+     * @param x x-coordinate of the area at the start of the move
+     * @param y y-coordinate of the area at the start of the move
+     * @param width The width of the area
+     * @param height The height of the area
+     * @param dx The distance moved on the x-axis
+     * @param dy The distance moved on the y-axis
+     * @return The solid cell hit first, if nothing is hit NONE is returned
      */
-    public Tile getTile(final double x, final double y)
+    public int sweep(final double x, final double y, final double width, final double height, final double dx, final double dy)
     {
-        for (int row = 0; row < tiles.length; row++)
+        //the columns/rows covered by the area at the start and end of the move
+        final int startCol = Math.max(0, (int)Math.floor((Math.min(x, x + dx) - getOriginX()) / Tile.WIDTH));
+        final int endCol = Math.min(getColumns() - 1, (int)Math.floor((Math.max(x, x + dx) + width - getOriginX()) / Tile.WIDTH));
+        final int startRow = Math.max(0, (int)Math.floor((Math.min(y, y + dy) - getOriginY()) / Tile.HEIGHT));
+        final int endRow = Math.min(getRows() - 1, (int)Math.floor((Math.max(y, y + dy) + height - getOriginY()) / Tile.HEIGHT));
+        
+        int result = NONE;
+        double time = 1;
+        
+        for (int row = startRow; row <= endRow; row++)
         {
-            for (int col = 0; col < tiles[row].length; col++)
+            for (int col = startCol; col <= endCol; col++)
             {
-                //if there is no tile here skip
-                if (!hasTile(col, row))
+                //only solid tiles stop the move
+                if (!hasTile(col, row) || !hasFlag(col, row, FLAG_SOLID))
                     continue;
                 
-                Tile tile = getTile(col, row);
+                final int cell = getCell(col, row);
+                final double entry = getEntryTime(cell, x, y, width, height, dx, dy);
                 
-                if (x < tile.getX() || x > tile.getX() + tile.getWidth())
-                    continue;
-                if (y < tile.getY() || y > tile.getY() + tile.getHeight())
-                    continue;
-                
-                //we found a tile close enough to the entity
-                return tile;
+                //keep the cell that is hit first
+                if (entry >= 0 && (result == NONE || entry < time))
+                {
+                    result = cell;
+                    time = entry;
+                }
             }
         }
         
-        return null;
+        return result;
+    }
+    
+    /**
+     * Get when a moving area first touches the cell.
+     * @param cell The cell we want to check
+     * @param x x-coordinate of the area at the start of the move
+     * @param y y-coordinate of the area at the start of the move
+     * @param width The width of the area
+     * @param height The height of the area
+     * @param dx The distance moved on the x-axis
+     * @param dy The distance moved on the y-axis
+     * @return The fraction of the move (0 - 1) completed when the area touches the cell, -1 if the area does not run into the cell
+     */
+    public double getEntryTime(final int cell, final double x, final double y, final double width, final double height, final double dx, final double dy)
+    {
+        final double cellX = getX(cell);
+        final double cellY = getY(cell);
+        
+        double entry = Double.NEGATIVE_INFINITY;
+        double exit = Double.POSITIVE_INFINITY;
+        
+        //when the area enters and leaves the column of the cell
+        if (dx > 0)
+        {
+            entry = Math.max(entry, (cellX - (x + width)) / dx);
+            exit = Math.min(exit, (cellX + Tile.WIDTH - x) / dx);
+        }
+        else if (dx < 0)
+        {
+            entry = Math.max(entry, (cellX + Tile.WIDTH - x) / dx);
+            exit = Math.min(exit, (cellX - (x + width)) / dx);
+        }
+        else if (x + width <= cellX || x >= cellX + Tile.WIDTH)
+        {
+            //not moving on the x-axis and not in the column
+            return -1;
+        }
+        
+        //when the area enters and leaves the row of the cell
+        if (dy > 0)
+        {
+            entry = Math.max(entry, (cellY - (y + height)) / dy);
+            exit = Math.min(exit, (cellY + Tile.HEIGHT - y) / dy);
+        }
+        else if (dy < 0)
+        {
+            entry = Math.max(entry, (cellY + Tile.HEIGHT - y) / dy);
+            exit = Math.min(exit, (cellY - (y + height)) / dy);
+        }
+        else if (y + height <= cellY || y >= cellY + Tile.HEIGHT)
+        {
+            //not moving on the y-axis and not in the row
+            return -1;
+        }
+        
+        //the area has to be in the column and row at the same time, during this move
+        if (entry < 0 || entry > 1 || entry >= exit)
+            return -1;
+        
+        return entry;
+    }
+    
+    /**
+     * Get the x-coordinate where the first column of tiles starts
+     * @return The x-coordinate of the north-west corner
+     */
+    public double getOriginX()
+    {
+        return Level.LEVEL_START_X;
+    }
+    
+    /**
+     * Get the y-coordinate where the first row of tiles starts
+     * @return The y-coordinate of the north-west corner
+     */
+    public double getOriginY()
+    {
+        return Level.LEVEL_START_Y;
+    }
+    
+    /**
+     * Get the cell at the specified location
+     * @param column Location of the cell
+     * @param row Location of the cell
+     * @return The cell, if there is no tile at the location NONE is returned
+     */
+    public int getCell(final int column, final int row)
+    {
+        return (hasTile(column, row)) ? (row * getColumns()) + column : NONE;
+    }
+    
+    /**
+     * Get the column of the cell
+     * @param cell The cell
+     * @return The column in the array
+     */
+    public int getColumn(final int cell)
+    {
+        return (cell % getColumns());
+    }
+    
+    /**
+     * Get the row of the cell
+     * @param cell The cell
+     * @return The row in the array
+     */
+    public int getRow(final int cell)
+    {
+        return (cell / getColumns());
+    }
+    
+    /**
+     * Get the x-coordinate of the cell
+     * @param cell The cell
+     * @return The x-coordinate of the west side of the cell
+     */
+    public double getX(final int cell)
+    {
+        return getOriginX() + (getColumn(cell) * Tile.WIDTH);
+    }
+    
+    /**
+     * Get the y-coordinate of the cell
+     * @param cell The cell
+     * @return The y-coordinate of the north side of the cell
+     */
+    public double getY(final int cell)
+    {
+        return getOriginY() + (getRow(cell) * Tile.HEIGHT);
+    }
+    
+    /**
+     * Get the type of tile in the cell
+     * @param cell The cell
+     * @return The type of tile
+     */
+    public Type getType(final int cell)
+    {
+        return Type.get(types[getRow(cell)][getColumn(cell)]);
+    }
+    
+    /**
+     * Get the type of tile at the location
+     * @param column Location of the cell
+     * @param row Location of the cell
+     * @return The type of tile, if there is no tile null is returned
+     */
+    public Type getType(final int column, final int row)
+    {
+        return (hasTile(column, row)) ? Type.get(types[row][column]) : null;
+    }
+    
+    private boolean hasFlag(final int cell, final byte flag)
+    {
+        return hasFlag(getColumn(cell), getRow(cell), flag);
+    }
+    
+    private boolean hasFlag(final int column, final int row, final byte flag)
+    {
+        return ((flags[row][column] & flag) != 0);
+    }
+    
+    public boolean isSolid(final int cell)
+    {
+        return hasFlag(cell, FLAG_SOLID);
+    }
+    
+    public boolean hasDamage(final int cell)
+    {
+        return hasFlag(cell, FLAG_DAMAGE);
+    }
+    
+    public boolean hasDeath(final int cell)
+    {
+        return hasFlag(cell, FLAG_DEATH);
+    }
+    
+    public boolean isPowerup(final int cell)
+    {
+        return hasFlag(cell, FLAG_POWERUP);
+    }
+    
+    /**
+     * Is the tile in the cell a background/cloud tile that is drawn behind everything else
+     * @param cell The cell
+     * @return true if the tile is scenery, false otherwise
+     */
+    public boolean isScenery(final int cell)
+    {
+        return hasFlag(cell, FLAG_SCENERY);
     }
     
-    public Tile getTile(final int column, final int row)
+    /**
+     * Does the tile in the cell have an animation
+     * @param cell The cell
+     * @return true if the tile is animated, false otherwise
+     */
+    protected boolean isAnimated(final int cell)
     {
-        return this.tiles[row][column];
+        return tiles[types[getRow(cell)][getColumn(cell)]].isAnimated();
     }
     
-    public Tile getTileWest()
+    /**
+     * Mark if the tile at the location contains a power up
+     * @param column Location of the cell
+     * @param row Location of the cell
+     * @param powerUp true if the tile contains a power up, false otherwise
+     */
+    public void setPowerup(final int column, final int row, final boolean powerUp)
     {
-        return getTile(getColumns() - 1, 0);
+        if (powerUp)
+        {
+            flags[row][column] |= FLAG_POWERUP;
+        }
+        else
+        {
+            flags[row][column] &= ~FLAG_POWERUP;
+        }
     }
     
     /**
@@ -231,7 +748,7 @@ public final class Tiles implements Disposable
      */
     public boolean hasTile(final int column, final int row)
     {
-        return (getTile(column, row) != null);
+        return (types[row][column] != EMPTY);
     }
     
     /**
@@ -286,7 +803,7 @@ public final class Tiles implements Disposable
      */
     public int getRows()
     {
-        return this.tiles.length;
+        return this.types.length;
     }
     
     /**
@@ -295,7 +812,7 @@ public final class Tiles implements Disposable
      */
     public int getColumns()
     {
-        return this.tiles[0].length;
+        return this.types[0].length;
     }
     
     /**
@@ -314,26 +831,19 @@ public final class Tiles implements Disposable
      */
     public boolean hasFloorBelow(final double x)
     {
-        for (int col = 0; col < tiles[getFloorRow()].length; col++)
-        {
-            //if there is no tile here skip
-            if (!hasTile(col, getFloorRow()))
-                continue;
-
-            //get the floor tile at the current column
-            Tile tile = getTile(col, getFloorRow());
-
-            //can't check if tile doesn't exist
-            if (tile == null)
-                continue;
-            
-            //if the x-coordinate is not inside the tile skip
-            if (x < tile.getX() || x > tile.getX() + tile.getWidth())
-                continue;
-            
-            //we found the floor below
+        //determine the column relative to the west side of the tiles
+        final double column = (x - getOriginX()) / Tile.WIDTH;
+        
+        //the column the coordinate is inside
+        final int col = (int)Math.floor(column);
+        
+        //check the column the x-coordinate is in
+        if (col >= 0 && col < getColumns() && floor[col])
+            return true;
+        
+        //if the coordinate is on the edge, the previous column also contains this coordinate
+        if (column == col && col > 0 && col <= getColumns() && floor[col - 1])
             return true;
-        }
         
         //we didn't find a floor below
         return false;
@@ -351,15 +861,12 @@ public final class Tiles implements Disposable
     }
     
     /**
-     * Add this tile to the specified location.<br>
+     * Create the tile shared by every cell of this type.<br>
      * Will also setup animation etc...
      * @param type The type of tile we want
-     * @param column Start column location of animation
-     * @param row Start row location of animation
-     * @param x x-coordinate where tile will be drawn
-     * @param y y-coordinate where tile will be drawn
+     * @return The tile, if the type is not setup null is returned
      */
-    public void add(final Type type, final double column, final double row, final double x, final double y)
+    private Tile create(final Type type)
     {
         try
         {
@@ -367,524 +874,394 @@ public final class Tiles implements Disposable
             switch (type)
             {
                 case Empty:
-                    addSingleObject(type, 1, 0, false, -1, -1, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(-1), getStartY(-1));
                 
                 case UsedBlock:
-                    addSingleObject(type, 1, 0, false, 4, 0, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(4), getStartY(0));
                 
                 case Lava:
-                    addSingleObject(type, 4, Timers.toNanoSeconds(125L), true, 0, 9, x, y, column, row);
-                    break;
+                    return new Tile(type, 4, Timers.toNanoSeconds(125L), true, getStartX(0), getStartY(9));
                 
                 case Water1:
-                    addSingleObject(type, 4, Timers.toNanoSeconds(125L), true, 0, 10, x, y, column, row);
-                    break;
+                    return new Tile(type, 4, Timers.toNanoSeconds(125L), true, getStartX(0), getStartY(10));
                     
                 case Water2:
-                    addSingleObject(type, 4, Timers.toNanoSeconds(125L), true, 0, 11, x, y, column, row);
-                    break;
+                    return new Tile(type, 4, Timers.toNanoSeconds(125L), true, getStartX(0), getStartY(11));
                     
                 case QuestionBlock:
-                    addSingleObject(type, 4, Timers.toNanoSeconds(125L), true, 0, 0, x, y, column, row);
-                    break;
+                    return new Tile(type, 4, Timers.toNanoSeconds(125L), true, getStartX(0), getStartY(0));
                     
                 case BreakableBrick:
-                    addSingleObject(type, 4, Timers.toNanoSeconds(200L), true, 0, 1, x, y, column, row);
-                    break;
+                    return new Tile(type, 4, Timers.toNanoSeconds(200L), true, getStartX(0), getStartY(1));
                     
                 case RotatingGear:
-                    addSingleObject(type, 4, Timers.toNanoSeconds(75L), true, 0, 2, x, y, column, row);
-                    break;
+                    return new Tile(type, 4, Timers.toNanoSeconds(75L), true, getStartX(0), getStartY(2));
                 
                 case RotatingGear2:
-                    addSingleObject(type, 4, Timers.toNanoSeconds(75L), true, 0, 21, x, y, column, row);
-                    break;
+                    return new Tile(type, 4, Timers.toNanoSeconds(75L), true, getStartX(0), getStartY(21));
                     
                 case VerticalPipe1:
-                    addSingleObject(type, 1, 0, false, 0, 3, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(0), getStartY(3));
                     
                 case VerticalPipe2:
-                    addSingleObject(type, 1, 0, false, 2, 3, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(2), getStartY(3));
                     
                 case VerticalPipe3:
-                    addSingleObject(type, 1, 0, false, 4, 3, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(4), getStartY(3));
                     
                 case VerticalPipe4:
-                    addSingleObject(type, 1, 0, false, 0, 5, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(0), getStartY(5));
                     
                 case VerticalPipe5:
-                    addSingleObject(type, 1, 0, false, 2, 5, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(2), getStartY(5));
                     
                 case VerticalPipe6:
-                    addSingleObject(type, 1, 0, false, 4, 5, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(4), getStartY(5));
                     
                 case VerticalPipe7:
-                    addSingleObject(type, 1, 0, false, 0, 7, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(0), getStartY(7));
                     
                 case VerticalPipe8:
-                    addSingleObject(type, 1, 0, false, 2, 7, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(2), getStartY(7));
                     
                 case HorizontalPipe1:
-                    addSingleObject(type, 1, 0, false, 4, 1, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(4), getStartY(1));
                     
                 case HorizontalPipe2:
-                    addSingleObject(type, 1, 0, false, 6, 1, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(6), getStartY(1));
                     
                 case HorizontalPipe3:
-                    addSingleObject(type, 1, 0, false, 8, 1, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(8), getStartY(1));
                     
                 case HorizontalPipe4:
-                    addSingleObject(type, 1, 0, false, 6, 3, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(6), getStartY(3));
                     
                 case HorizontalPipe5:
-                    addSingleObject(type, 1, 0, false, 8, 3, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(8), getStartY(3));
                     
                 case HorizontalPipe6:
-                    addSingleObject(type, 1, 0, false, 6, 5, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(6), getStartY(5));
                     
                 case HorizontalPipe7:
-                    addSingleObject(type, 1, 0, false, 6, 7, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(6), getStartY(7));
                     
                 case HorizontalPipe8:
-                    addSingleObject(type, 1, 0, false, 4, 7, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(4), getStartY(7));
                     
                 case Floor1West:
-                    addSingleObject(type, 1, 0, false, 10, 0, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(10), getStartY(0));
                     
                 case Floor1Center:
-                    addSingleObject(type, 1, 0, false, 11, 0, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(11), getStartY(0));
                     
                 case Floor1East: 
-                    addSingleObject(type, 1, 0, false, 12, 0, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(12), getStartY(0));
                     
                 case Floor2West:
-                    addSingleObject(type, 1, 0, false, 10, 2, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(10), getStartY(2));
                     
                 case Floor2Center:
-                    addSingleObject(type, 1, 0, false, 11, 2, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(11), getStartY(2));
                     
                 case Floor2East: 
-                    addSingleObject(type, 1, 0, false, 12, 2, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(12), getStartY(2));
                     
                 case Floor3West:
-                    addSingleObject(type, 1, 0, false, 10, 4, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(10), getStartY(4));
                     
                 case Floor3Center:
-                    addSingleObject(type, 1, 0, false, 11, 4, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(11), getStartY(4));
                     
                 case Floor3East: 
-                    addSingleObject(type, 1, 0, false, 12, 4, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(12), getStartY(4));
                     
                 case Floor4West:
-                    addSingleObject(type, 1, 0, false, 10, 6, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(10), getStartY(6));
                     
                 case Floor4Center:
-                    addSingleObject(type, 1, 0, false, 11, 6, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(11), getStartY(6));
                     
                 case Floor4East: 
-                    addSingleObject(type, 1, 0, false, 12, 6, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(12), getStartY(6));
                     
                 case Floor5West:
-                    addSingleObject(type, 1, 0, false, 10, 8, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(10), getStartY(8));
                     
                 case Floor5Center:
-                    addSingleObject(type, 1, 0, false, 11, 8, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(11), getStartY(8));
                     
                 case Floor5East: 
-                    addSingleObject(type, 1, 0, false, 12, 8, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(12), getStartY(8));
                     
                 case Floor6West:
-                    addSingleObject(type, 1, 0, false, 10, 10, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(10), getStartY(10));
                     
                 case Floor6Center:
-                    addSingleObject(type, 1, 0, false, 11, 10, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(11), getStartY(10));
                     
                 case Floor6East: 
-                    addSingleObject(type, 1, 0, false, 12, 10, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(12), getStartY(10));
                     
                 case Floor7West:
-                    addSingleObject(type, 1, 0, false, 10, 12, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(10), getStartY(12));
                     
                 case Floor7Center:
-                    addSingleObject(type, 1, 0, false, 11, 12, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(11), getStartY(12));
                     
                 case Floor7East: 
-                    addSingleObject(type, 1, 0, false, 12, 12, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(12), getStartY(12));
                     
                 case Floor8West:
-                    addSingleObject(type, 1, 0, false, 13, 0, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(13), getStartY(0));
                     
                 case Floor8Center:
-                    addSingleObject(type, 1, 0, false, 14, 0, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(14), getStartY(0));
                     
                 case Floor8East: 
-                    addSingleObject(type, 1, 0, false, 15, 0, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(15), getStartY(0));
                     
                 case Floor9West:
-                    addSingleObject(type, 1, 0, false, 13, 2, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(13), getStartY(2));
                     
                 case Floor9Center:
-                    addSingleObject(type, 1, 0, false, 14, 2, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(14), getStartY(2));
                     
                 case Floor9East: 
-                    addSingleObject(type, 1, 0, false, 15, 2, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(15), getStartY(2));
                     
                 case Floor10West:
-                    addSingleObject(type, 1, 0, false, 13, 4, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(13), getStartY(4));
                     
                 case Floor10Center:
-                    addSingleObject(type, 1, 0, false, 14, 4, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(14), getStartY(4));
                     
                 case Floor10East: 
-                    addSingleObject(type, 1, 0, false, 15, 4, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(15), getStartY(4));
                     
                 case Floor11West:
-                    addSingleObject(type, 1, 0, false, 13, 6, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(13), getStartY(6));
                     
                 case Floor11Center:
-                    addSingleObject(type, 1, 0, false, 14, 6, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(14), getStartY(6));
                     
                 case Floor11East: 
-                    addSingleObject(type, 1, 0, false, 15, 6, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(15), getStartY(6));
 
                 case Floor12West:
-                    addSingleObject(type, 1, 0, false, 13, 8, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(13), getStartY(8));
                     
                 case Floor12Center:
-                    addSingleObject(type, 1, 0, false, 14, 8, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(14), getStartY(8));
                     
                 case Floor12East: 
-                    addSingleObject(type, 1, 0, false, 15, 8, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(15), getStartY(8));
                     
                 case Floor13West:
-                    addSingleObject(type, 1, 0, false, 13, 10, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(13), getStartY(10));
                     
                 case Floor13Center:
-                    addSingleObject(type, 1, 0, false, 14, 10, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(14), getStartY(10));
                     
                 case Floor13East: 
-                    addSingleObject(type, 1, 0, false, 15, 10, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(15), getStartY(10));
                     
                 case Floor14West:
-                    addSingleObject(type, 1, 0, false, 2, 17, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(2), getStartY(17));
                     
                 case Floor14Center:
-                    addSingleObject(type, 1, 0, false, 3, 17, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(3), getStartY(17));
                     
                 case Floor14East: 
-                    addSingleObject(type, 1, 0, false, 4, 17, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(4), getStartY(17));
                     
                 case Floor15West:
-                    addSingleObject(type, 1, 0, false, 5, 17, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(5), getStartY(17));
                     
                 case Floor15Center:
-                    addSingleObject(type, 1, 0, false, 6, 17, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(6), getStartY(17));
                     
                 case Floor15East: 
-                    addSingleObject(type, 1, 0, false, 7, 17, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(7), getStartY(17));
                     
                 case Floor16West:
-                    addSingleObject(type, 1, 0, false, 8, 17, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(8), getStartY(17));
                     
                 case Floor16Center:
-                    addSingleObject(type, 1, 0, false, 9, 17, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(9), getStartY(17));
                     
                 case Floor16East: 
-                    addSingleObject(type, 1, 0, false, 10, 17, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(10), getStartY(17));
                     
                 case Floor17West:
-                    addSingleObject(type, 1, 0, false, 11, 17, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(11), getStartY(17));
                     
                 case Floor17Center:
-                    addSingleObject(type, 1, 0, false, 12, 17, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(12), getStartY(17));
                     
                 case Floor17East: 
-                    addSingleObject(type, 1, 0, false, 13, 17, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(13), getStartY(17));
                     
                 case Floor18West:
-                    addSingleObject(type, 1, 0, false, 0, 25, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(0), getStartY(25));
                     
                 case Floor18Center:
-                    addSingleObject(type, 1, 0, false, 1, 25, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(1), getStartY(25));
                     
                 case Floor18East: 
-                    addSingleObject(type, 1, 0, false, 2, 25, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(2), getStartY(25));
                     
                 case Floor19West:
-                    addSingleObject(type, 1, 0, false, 0, 27, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(0), getStartY(27));
                     
                 case Floor19Center:
-                    addSingleObject(type, 1, 0, false, 1, 27, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(1), getStartY(27));
                     
                 case Floor19East: 
-                    addSingleObject(type, 1, 0, false, 2, 27, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(2), getStartY(27));
                     
                 case Floor20West:
-                    addSingleObject(type, 1, 0, false, 3, 27, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(3), getStartY(27));
                     
                 case Floor20Center:
-                    addSingleObject(type, 1, 0, false, 4, 27, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(4), getStartY(27));
                     
                 case Floor20East: 
-                    addSingleObject(type, 1, 0, false, 5, 27, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(5), getStartY(27));
                     
                 case PlatformBlock1:
-                    addSingleObject(type, 1, 0, false, 5, 0, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(5), getStartY(0));
                     
                 case PlatformBlock2:
-                    addSingleObject(type, 1, 0, false, 6, 0, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(6), getStartY(0));
                     
                 case PlatformBlock3:
-                    addSingleObject(type, 1, 0, false, 7, 0, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(7), getStartY(0));
                     
                 case PlatformBlock4:
-                    addSingleObject(type, 1, 0, false, 8, 0, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(8), getStartY(0));
                     
                 case PlatformBlock5:
-                    addSingleObject(type, 1, 0, false, 8, 8, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(8), getStartY(8));
                     
                 case PlatformBlock6:
-                    addSingleObject(type, 1, 0, false, 9, 8, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(9), getStartY(8));
                     
                 case PlatformBlock7:
-                    addSingleObject(type, 1, 0, false, 8, 9, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(8), getStartY(9));
                     
                 case PlatformBlock8:
-                    addSingleObject(type, 1, 0, false, 9, 9, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(9), getStartY(9));
                     
                 case Platform1: 
-                    addSingleObject(type, 1, 0, false, 4, 9, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(4), getStartY(9));
                     
                 case Platform2: 
-                    addSingleObject(type, 1, 0, false, 4, 10, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(4), getStartY(10));
                     
                 case Platform3: 
-                    addSingleObject(type, 1, 0, false, 0, 13, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(0), getStartY(13));
                     
                 case Platform4: 
-                    addSingleObject(type, 1, 0, false, 8, 5, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(8), getStartY(5));
                     
                 case Platform5: 
-                    addSingleObject(type, 1, 0, false, 8, 5, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(8), getStartY(5));
                     
                 case Platform6: 
-                    addSingleObject(type, 1, 0, false, 8, 5, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(8), getStartY(5));
                     
                 case Platform7: 
-                    addSingleObject(type, 1, 0, false, 7, 10, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(7), getStartY(10));
                     
                 case Cloud1:
-                    addSingleObject(type, 1, 0, false, 4, 11, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(4), getStartY(11));
                             
                 case Cloud2:
-                    addSingleObject(type, 1, 0, false, 4, 12, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(4), getStartY(12));
                     
                 case Cloud3:
-                    addSingleObject(type, 1, 0, false, 4, 13, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(4), getStartY(13));
                     
                 case Cloud4:
-                    addSingleObject(type, 1, 0, false, 2, 14, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(2), getStartY(14));
                     
                 case SpikesUp1:
-                    addSingleObject(type, 1, 0, false, 0, 12, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(0), getStartY(12));
                     
                 case SpikesUp2:
-                    addSingleObject(type, 1, 0, false, 2, 12, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(2), getStartY(12));
                     
                 case SpikesDown1:
-                    addSingleObject(type, 1, 0, false, 1, 12, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(1), getStartY(12));
                     
                 case SpikesDown2:
-                    addSingleObject(type, 1, 0, false, 3, 12, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(3), getStartY(12));
                     
                 case BackgroundPlant:
-                    addSingleObject(type, 1, 0, false, 9, 0, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(9), getStartY(0));
                     
                 case BackgroundPlant2:
-                    addSingleObject(type, 1, 0, false, 3, 16, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(3), getStartY(16));
                     
                 case Background1:
-                    addSingleObject(type, 1, 0, false, 0, 14, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(0), getStartY(14));
                     
                 case Background2:
-                    addSingleObject(type, 1, 0, false, 0, 16, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(0), getStartY(16));
                     
                 case Background3:
-                    addSingleObject(type, 1, 0, false, 0, 22, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(0), getStartY(22));
                     
                 case Background4:
-                    addSingleObject(type, 1, 0, false, 0, 23, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(0), getStartY(23));
                     
                 case Background5:
-                    addSingleObject(type, 1, 0, false, 0, 24, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(0), getStartY(24));
                     
                 case Background6:
-                    addSingleObject(type, 1, 0, false, 6, 25, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(6), getStartY(25));
                     
                 case BigBlock:
-                    addSingleObject(type, 1, 0, false, 0, 17, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(0), getStartY(17));
 
                 case BiggerBlock1:
-                    addSingleObject(type, 1, 0, false, 16, 0, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(16), getStartY(0));
                     
                 case BiggerBlock2:
-                    addSingleObject(type, 1, 0, false, 16, 3, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(16), getStartY(3));
                     
                 case BiggerBlock3:
-                    addSingleObject(type, 1, 0, false, 16, 6, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(16), getStartY(6));
                     
                 case BiggerBlock4:
-                    addSingleObject(type, 1, 0, false, 16, 9, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(16), getStartY(9));
                     
                 case BiggerBlock5:
-                    addSingleObject(type, 1, 0, false, 7, 12, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(7), getStartY(12));
                     
                 case BiggerBlock6:
-                    addSingleObject(type, 1, 0, false, 8, 15, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(8), getStartY(15));
                     
                 case BiggerBlock7:
-                    addSingleObject(type, 1, 0, false, 14, 13, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(14), getStartY(13));
                     
                 case BiggerBlock8:
-                    addSingleObject(type, 1, 0, false, 14, 15, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(14), getStartY(15));
                     
                 case BiggerBlock9:
-                    addSingleObject(type, 1, 0, false, 14, 17, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(14), getStartY(17));
                     
                 case BiggerBlock10:
-                    addSingleObject(type, 1, 0, false, 0, 19, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(0), getStartY(19));
                     
                 case BiggerBlock11:
-                    addSingleObject(type, 1, 0, false, 4, 19, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(4), getStartY(19));
                     
                 case Goal:
-                    addSingleObject(type, 1, 0, false, 0, 29, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(0), getStartY(29));
                     
                 case GoalComplete:
-                    addSingleObject(type, 1, 0, false, 1, 29, x, y, column, row);
-                    break;
+                    return new Tile(type, 1, 0, false, getStartX(1), getStartY(29));
                     
                 default:
                     throw new Exception("Tile not setup here: " + type.toString());
@@ -894,39 +1271,28 @@ public final class Tiles implements Disposable
         {
             e.printStackTrace();
         }
+        
+        return null;
     }
     
     /**
-     * Add a single object to our tile array.<br>
-     * An object can take multiple cols/rows
-     * @param type The type of tile
-     * @param animationCount Number of animations
-     * @param animationDelay The tile delay between animations
-     * @param loop Do we loop the animation
-     * @param animationCol Start column of tile
-     * @param animationRow Start row of tile
-     * @param x x-coordinate where tile(s) will be drawn
-     * @param y y-coordinate where tile(s) will be drawn
+     * Add this tile to the specified location.<br>
+     * A tile can take multiple cols/rows
+     * @param type The type of tile we want
      * @param column Column where this will lie in our array
      * @param row Row where this will lie in our array
      */
-    private void addSingleObject(final Type type, final int animationCount, final long animationDelay, final boolean loop, final int animationCol, final int animationRow, final double x, final double y, final double column, final double row)
+    public void add(final Type type, final int column, final int row)
     {
-        Tile tile;
-        
         for (int i = 0; i < type.getColumnDimensions(); i++)
         {
             for (int z = 0; z < type.getRowDimensions(); z++)
             {
-                tile = new Tile(type);
-                tile.addAnimation(type, animationCount, getStartX(animationCol + i), getStartY(animationRow + z), Tile.WIDTH, Tile.HEIGHT, animationDelay, loop);
-                tile.setLocation(x + (Tile.WIDTH * i), y + (Tile.HEIGHT * z));
-                set(tile, column + i, row + z);
+                set(type, column + i, row + z, i, z);
             }
         }
     }
     
-    
     /**
      * Remove tile at specified location
      * @param column
@@ -934,44 +1300,77 @@ public final class Tiles implements Disposable
      */
     public void remove(final int column, final int row)
     {
-        tiles[row][column] = null;
+        version++;
+        
+        types[row][column] = EMPTY;
+        flags[row][column] = 0;
+        parts[row][column] = 0;
+        
+        //keep track of the floor
+        if (row == getFloorRow())
+            floor[column] = false;
+        
+        notifyListeners(column, row);
     }
     
     /**
-     * Assign the tile to the array
-     * @param tile The tile we want to assign
+     * Assign the tile type to the array
+     * @param type The type of tile we want to assign
      * @param column The location in the array where we want to assign the tile
      * @param row The location in the array where we want to assign the tile
+     * @param partCol The column of this cell within the tile
+     * @param partRow The row of this cell within the tile
      */
-    private void set(final Tile tile, final double column, final double row)
+    private void set(final Type type, final int column, final int row, final int partCol, final int partRow)
     {
-        //set the location where this will be in the array
-        tile.setCol(column);
-        tile.setRow(row);
+        version++;
         
         //set the tile in the array
-        tiles[(int)row][(int)column] = tile;
+        types[row][column] = (short)type.ordinal();
+        
+        //store the part of the tile so we know what to draw
+        parts[row][column] = (byte)((partCol << 4) | partRow);
+        
+        //set the flags for this type
+        byte flag = 0;
+        
+        if (type.isSolid())
+            flag |= FLAG_SOLID;
+        if (type.hasDamage())
+            flag |= FLAG_DAMAGE;
+        if (type.hasDeath())
+            flag |= FLAG_DEATH;
+        
+        //determine which layer the tile is drawn in now, so we don't have to check when rendering
+        if (LevelCreatorHelper.isBackgroundTile(type) || LevelCreatorHelper.isCloudTile(type))
+            flag |= FLAG_SCENERY;
+        
+        flags[row][column] = flag;
+        
+        //keep track of the floor
+        if (row == getFloorRow())
+            floor[column] = true;
+        
+        notifyListeners(column, row);
     }
     
     @Override
     public void dispose()
     {
-        if (tiles != null)
+        listeners.clear();
+        
+        if (chunks != null)
         {
-            for (int row = 0; row < tiles.length; row++)
-            {
-                for (int col = 0; col < tiles[row].length; col++)
-                {
-                    if (tiles[row][col] != null)
-                    {
-                        tiles[row][col].dispose();
-                        tiles[row][col] = null;
-                    }
-                }
-            }
-            
-            tiles = null;
+            chunks.dispose();
+            chunks = null;
         }
+        
+        tiles = null;
+        animated = null;
+        types = null;
+        flags = null;
+        parts = null;
+        floor = null;
     }
     
     /**
@@ -1027,42 +1426,6 @@ public final class Tiles implements Disposable
         
         //place switch which will represent the goal
         LevelCreatorHelper.createGoal(level);
-        
-        try
-        {
-            /**
-             * Always add make sure these tiles exist for proper scrolling of level.
-             */
-            add(Type.Empty, 0, 0, level.getX(0), level.getY(0));
-
-            //make sure tile has been created
-            if (!hasTile(getColumns() - 1, getRows() - 1))
-                throw new Exception("South-East corner of tile array must have a tile for proper scrolling");
-        }
-        catch(Exception e)
-        {
-            e.printStackTrace();
-        }
-    }
-    
-    public boolean canScrollNorth(final double y)
-    {
-        return (getTile(0,0).getY() <= y);
-    }
-    
-    public boolean canScrollSouth(final double y)
-    {
-        return (getTile(getColumns() - 1, getRows() - 1).getY() >= y);
-    }
-    
-    public boolean canScrollWest(final double x)
-    {
-        return (getTile(0,0).getX() <= x);
-    }
-    
-    public boolean canScrollEast(final double x)
-    {
-        return (getTile(getColumns() - 1, getRows() - 1).getX() >= x);
     }
     
     /**
@@ -1095,20 +1458,7 @@ public final class Tiles implements Disposable
      */
     public void renderSolidTiles(final Graphics graphics, final Rectangle window)
     {
-        for (int row = 0; row < tiles.length; row++)
-        {
-            for (int col = 0; col < tiles[row].length; col++)
-            {
-                //if there is no tile here skip
-                if (!hasTile(col, row))
-                    continue;
-                
-                Tile tile = getTile(col, row);
-                
-                if (!LevelCreatorHelper.isBackgroundTile(tile) && !LevelCreatorHelper.isCloudTile(tile))
-                    renderTile(tile, graphics, window);
-            }
-        }
+        renderTiles(graphics, window, false);
     }
     
     /**
@@ -1118,37 +1468,43 @@ public final class Tiles implements Disposable
      */
     public void renderNonSolidTiles(final Graphics graphics, final Rectangle window)
     {
-        for (int row = 0; row < tiles.length; row++)
-        {
-            for (int col = 0; col < tiles[row].length; col++)
-            {
-                //if there is no tile here skip
-                if (!hasTile(col, row))
-                    continue;
-                
-                Tile tile = getTile(col, row);
-                
-                if (LevelCreatorHelper.isBackgroundTile(tile) || LevelCreatorHelper.isCloudTile(tile))
-                    renderTile(tile, graphics, window);
-            }
-        }
+        renderTiles(graphics, window, true);
     }
     
     /**
-     * Render a tile
-     * @param tile The tile we want to draw
+     * Render the tiles of one layer that are inside the window.<br>
+     * The static tiles are drawn from the chunk images, so only the animated tiles are drawn one at a time.
      * @param graphics Object where images will be written
-     * @param window The area where the tiles will be rendered so we don't have to render tiles that aren't part of the screen
+     * @param window The area where the tiles will be rendered
+     * @param scenery true to render the background/cloud tiles, false to render all other tiles
      */
-    public void renderTile(final Tile tile, final Graphics graphics, final Rectangle window)
+    private void renderTiles(final Graphics graphics, final Rectangle window, final boolean scenery)
     {
-        //if not on screen, we won't render the tile
-        if (tile.getX() + tile.getWidth()  < window.x || tile.getX() > window.x + window.width)
-            return;
-        if (tile.getY() + tile.getHeight() < window.y || tile.getY() > window.y + window.height)
+        //determine the range of columns inside the window
+        final int startCol = Math.max(0, (int)Math.floor((window.x - getOriginX()) / Tile.WIDTH));
+        final int endCol = Math.min(getColumns() - 1, (int)Math.floor((window.x + window.width - getOriginX()) / Tile.WIDTH));
+        
+        //nothing is on screen
+        if (startCol > endCol)
             return;
-
-        //draw the tile
-        tile.draw(graphics, image);
+        
+        chunks.render(graphics, startCol, endCol, scenery);
+    }
+    
+    /**
+     * Render a tile
+     * @param cell The cell we want to draw
+     * @param graphics Object where images will be written
+     * @param x x-coordinate where the cell will be drawn
+     * @param y y-coordinate where the cell will be drawn
+     */
+    protected void renderTile(final int cell, final Graphics graphics, final int x, final int y)
+    {
+        //get the location of the cell
+        final int col = getColumn(cell);
+        final int row = getRow(cell);
+        
+        //draw the part of the shared tile for this cell
+        tiles[types[row][col]].draw(graphics, image, x, y, parts[row][col] >> 4, parts[row][col] & 0xF);
     }
 }
\ No newline at end of file
@@ -1034,7 +1034,7 @@ public final class Map implements Disposable, IElement, Displayable, IProgress,
             for (int y = 0; y <= Shared.ORIGINAL_HEIGHT; y += tile.getHeight())
             {
                 tile.setLocation(x, y);
-                tile.draw(graphics, image);
+                tile.drawAnimation(graphics, image);
             }
         }
         
@@ -1070,7 +1070,7 @@ public final class Map implements Disposable, IElement, Displayable, IProgress,
                         tile.setLocation(
                             middleX - (tile.getWidth() / 2) + (CELL_WIDTH / 2), 
                             middleY - (tile.getHeight() / 2) + (CELL_HEIGHT / 2));
-                        tile.draw(graphics, image);
+                        tile.drawAnimation(graphics, image);
                     }
                     
                     //get current location
@@ -1084,7 +1084,7 @@ public final class Map implements Disposable, IElement, Displayable, IProgress,
                         tile.setDimensions();
                         tile.setWidth(CELL_WIDTH / 2);
                         tile.setLocation(middleX - tile.getWidth(), middleY - (tile.getHeight() / 2));
-                        tile.draw(graphics, image);
+                        tile.drawAnimation(graphics, image);
                     }
                     
                     //if (!location.hasWall(Location.Wall.East) && location.hasWall(Location.Wall.West))
@@ -1094,7 +1094,7 @@ public final class Map implements Disposable, IElement, Displayable, IProgress,
                         tile.setDimensions();
                         tile.setWidth(CELL_WIDTH / 2);
                         tile.setLocation(middleX, middleY - (tile.getHeight() / 2));
-                        tile.draw(graphics, image);
+                        tile.drawAnimation(graphics, image);
                     }
                     
                     if (!location.hasWall(Location.Wall.North))
@@ -1103,7 +1103,7 @@ public final class Map implements Disposable, IElement, Displayable, IProgress,
                         tile.setDimensions();
                         tile.setHeight(CELL_HEIGHT / 2);
                         tile.setLocation(middleX - (tile.getWidth() / 2), middleY - tile.getHeight());
-                        tile.draw(graphics, image);
+                        tile.drawAnimation(graphics, image);
                     }
                     
                     if (!location.hasWall(Location.Wall.South))
@@ -1112,7 +1112,7 @@ public final class Map implements Disposable, IElement, Displayable, IProgress,
                         tile.setDimensions();
                         tile.setHeight(CELL_HEIGHT / 2);
                         tile.setLocation(middleX - (tile.getWidth() / 2), middleY);
-                        tile.draw(graphics, image);
+                        tile.drawAnimation(graphics, image);
                     }
 
                     if (getType(col, row) != null)
@@ -1120,14 +1120,14 @@ public final class Map implements Disposable, IElement, Displayable, IProgress,
                         tile = getTile(getType(col, row));
                         tile.setDimensions();
                         tile.setLocation(middleX - (tile.getWidth() / 2), middleY - (tile.getHeight() / 2));
-                        tile.draw(graphics, image);
+                        tile.drawAnimation(graphics, image);
                     }
                     else
                     {
                         tile = getTile(Tile.Type.Dot);
                         tile.setDimensions();
                         tile.setLocation(middleX - (tile.getWidth() / 2), middleY - (tile.getHeight() / 2));
-                        tile.draw(graphics, image);
+                        tile.drawAnimation(graphics, image);
                     }
                 }
                 catch (Exception e)